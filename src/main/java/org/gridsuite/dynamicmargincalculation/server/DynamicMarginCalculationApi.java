@@ -16,4 +16,8 @@ public final class DynamicMarginCalculationApi {
     }
 
     public static final String API_VERSION = "v1";
+
+    // binary JSON formats negotiated by Accept and Content-Type, besides application/json
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows the read-only transactions of the annotated method to be served by the replica database, which may lag
+ * behind the primary one by up to the maximum lag. Only reads tolerating such stale data are annotated: the results
+ * and their statuses, read right after their notifications, always stay on the primary database.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Routes the read-only transactions of the methods annotated with {@link ReadFromReplica} to a replica database while
+ * it is not lagging too much behind the primary one, all the other accesses going to the primary database.
+ * <p>
+ * The routing is decided when the first statement of a transaction runs, the lazy connection proxy delaying the
+ * connection fetch until the read-only flag of the transaction is known.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Configuration
+@ConditionalOnProperty(name = "dynamic-margin-calculation.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("dynamic-margin-calculation.read-replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              @Value("${dynamic-margin-calculation.read-replica.url}") String url,
+                                              @Value("${dynamic-margin-calculation.read-replica.username:}") String username,
+                                              @Value("${dynamic-margin-calculation.read-replica.password:}") String password) {
+        // same credentials as the primary database unless given
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(url)
+                .username(StringUtils.isNotBlank(username) ? username : dataSourceProperties.determineUsername())
+                .password(StringUtils.isNotBlank(password) ? password : dataSourceProperties.determinePassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${dynamic-margin-calculation.read-replica.lag-query}") String lagQuery,
+                                               @Value("${dynamic-margin-calculation.read-replica.max-lag:5s}") Duration maxLag,
+                                               @Value("${dynamic-margin-calculation.read-replica.lag-check-interval:PT5S}") Duration lagCheckInterval) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLag, lagCheckInterval);
+    }
+
+    // outside the transaction interceptor, so that the whole transaction started by the annotated method may use the replica
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readFromReplicaAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(ReadFromReplica.class),
+                (MethodInterceptor) ReadReplicaRoutingDataSource::proceedAllowingReplica);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReadReplicaRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.config;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends to the replica database the read-only transactions started by the methods annotated with
+ * {@link ReadFromReplica}, while the replica is usable, all the other transactions going to the primary database.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> REPLICA_ALLOWED = ThreadLocal.withInitial(() -> false);
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && REPLICA_ALLOWED.get() && replicaLagMonitor.isReplicaUsable()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+    /**
+     * Proceeds with a method annotated with {@link ReadFromReplica}, its read-only transactions being allowed on the replica.
+     */
+    static Object proceedAllowingReplica(MethodInvocation invocation) throws Throwable {
+        boolean replicaAllowed = REPLICA_ALLOWED.get();
+        REPLICA_ALLOWED.set(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            REPLICA_ALLOWED.set(replicaAllowed);
+        }
+    }
+}
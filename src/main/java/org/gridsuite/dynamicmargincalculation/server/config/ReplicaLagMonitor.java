@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Periodically measures the replication lag of the replica database, which is only used while this lag is under the
+ * maximum. The replica is considered unusable until the first measure, whenever the measure fails, and once the last
+ * measure is older than twice the check interval, e.g. when the checks are delayed.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class ReplicaLagMonitor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long maxMeasureAgeNanos;
+    private volatile boolean replicaUsable;
+    private volatile long measureNanoTime;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag, Duration lagCheckInterval) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000d;
+        this.maxMeasureAgeNanos = lagCheckInterval.multipliedBy(2).toNanos();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.nanoTime() - measureNanoTime <= maxMeasureAgeNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${dynamic-margin-calculation.read-replica.lag-check-interval:PT5S}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            usable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+            if (!usable && replicaUsable) {
+                LOGGER.warn("Replica database lagging by {} s, read-only transactions sent to the primary database", lagSeconds);
+            }
+        } catch (RuntimeException e) {
+            usable = false;
+            if (replicaUsable) {
+                LOGGER.warn("Replica database unavailable, read-only transactions sent to the primary database", e);
+            }
+        }
+        if (usable && !replicaUsable) {
+            LOGGER.info("Read-only transactions sent to the replica database");
+        }
+        measureNanoTime = System.nanoTime();
+        replicaUsable = usable;
+    }
+}
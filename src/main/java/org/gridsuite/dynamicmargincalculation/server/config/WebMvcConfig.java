@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Smile and CBOR payloads, negotiated with the Accept and Content-Type headers. Their mappers are built like the JSON
+ * one, with the same modules and features, instead of the defaults registered by Spring MVC.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider;
+
+    public WebMvcConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider) {
+        this.objectMapperBuilderProvider = objectMapperBuilderProvider;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        // the builder is a prototype, a new one customized by the application for each mapper
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilderProvider.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilderProvider.getObject().factory(new CBORFactory()).build()));
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.gridsuite.dynamicmargincalculation.server.controller;
 
+import com.powsybl.dynawo.contingency.results.Status;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,21 +14,45 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultDiffInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultField;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultSummaryInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultFilter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultInfos;
 import org.gridsuite.dynamicmargincalculation.server.service.DynamicMarginCalculationResultService;
 import org.gridsuite.dynamicmargincalculation.server.service.DynamicMarginCalculationService;
 import org.gridsuite.dynamicmargincalculation.server.service.ParametersService;
+import org.gridsuite.dynamicmargincalculation.server.service.ResultStatusEventService;
 import org.gridsuite.dynamicmargincalculation.server.service.contexts.DynamicMarginCalculationRunContext;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.gridsuite.computation.service.AbstractResultContext.*;
 import static org.gridsuite.computation.service.NotificationService.*;
 import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.API_VERSION;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_SMILE_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.controller.DynamicMarginCalculationParametersController.HEADER_TOTAL_COUNT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
@@ -38,16 +63,25 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Tag(name = "Dynamic margin calculation server")
 public class DynamicMarginCalculationController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String FIELDS_DESCRIPTION = "optional fields returned, among SCENARIO_RESULTS and FAILED_CRITERIA, " +
+            "all of them if the parameter is absent, none of them if it is empty";
+
     private final DynamicMarginCalculationService dynamicMarginCalculationService;
     private final DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
     private final ParametersService parametersService;
+    private final ResultStatusEventService resultStatusEventService;
 
     public DynamicMarginCalculationController(DynamicMarginCalculationService dynamicMarginCalculationService,
                                               DynamicMarginCalculationResultService dynamicMarginCalculationResultService,
-                                              ParametersService parametersService) {
+                                              ParametersService parametersService,
+                                              ResultStatusEventService resultStatusEventService) {
         this.dynamicMarginCalculationService = dynamicMarginCalculationService;
         this.dynamicMarginCalculationResultService = dynamicMarginCalculationResultService;
         this.parametersService = parametersService;
+        this.resultStatusEventService = resultStatusEventService;
     }
 
     @PostMapping(value = "/networks/{networkUuid}/run", produces = APPLICATION_JSON_VALUE)
@@ -90,6 +124,175 @@ public class DynamicMarginCalculationController {
         return ResponseEntity.ok().body(result);
     }
 
+    @PostMapping(value = "/results/status", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the statuses of many dynamic margin calculation results from the database")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation statuses by result uuid, unknown result uuids are absent")})
+    public ResponseEntity<Map<UUID, DynamicMarginCalculationStatus>> getStatuses(@Parameter(description = "Result UUIDs") @RequestBody List<UUID> resultUuids) {
+        return ResponseEntity.ok().body(dynamicMarginCalculationResultService.findStatuses(resultUuids));
+    }
+
+    @GetMapping(value = "/results/status/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to the status transitions of dynamic margin calculation results, as Server-Sent Events")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The current statuses, then one status event per transition")})
+    public SseEmitter subscribeStatuses(@Parameter(description = "Result UUIDs") @RequestParam("resultUuid") List<UUID> resultUuids) {
+        return resultStatusEventService.subscribe(resultUuids);
+    }
+
+    @GetMapping(value = "/results/{resultUuid}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a dynamic margin calculation result, streamed from the database")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation result"),
+        @ApiResponse(responseCode = "304", description = "The dynamic margin calculation result has not changed since the given entity tag"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<StreamingResponseBody> getResult(
+            @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(name = "fields", required = false) Set<ResultField> fields,
+            WebRequest webRequest) {
+        return streamResult(resultUuid, APPLICATION_JSON_VALUE, toFields(fields), webRequest);
+    }
+
+    @GetMapping(value = "/results/{resultUuid}", produces = APPLICATION_SMILE_VALUE)
+    @Operation(summary = "Get a dynamic margin calculation result in Smile, streamed from the database")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation result"),
+        @ApiResponse(responseCode = "304", description = "The dynamic margin calculation result has not changed since the given entity tag"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<StreamingResponseBody> getResultSmile(
+            @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(name = "fields", required = false) Set<ResultField> fields,
+            WebRequest webRequest) {
+        return streamResult(resultUuid, APPLICATION_SMILE_VALUE, toFields(fields), webRequest);
+    }
+
+    @GetMapping(value = "/results/{resultUuid}", produces = APPLICATION_CBOR_VALUE)
+    @Operation(summary = "Get a dynamic margin calculation result in CBOR, streamed from the database")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation result"),
+        @ApiResponse(responseCode = "304", description = "The dynamic margin calculation result has not changed since the given entity tag"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<StreamingResponseBody> getResultCbor(
+            @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(name = "fields", required = false) Set<ResultField> fields,
+            WebRequest webRequest) {
+        return streamResult(resultUuid, APPLICATION_CBOR_VALUE, toFields(fields), webRequest);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamResult(UUID resultUuid, String mediaType, Set<ResultField> fields, WebRequest webRequest) {
+        // one entity tag per format and fields, the representations differ
+        String representation = MediaType.parseMediaType(mediaType).getSubtype();
+        if (fields.size() < ResultField.values().length) {
+            representation += fields.stream().map(field -> "-" + field.name().toLowerCase(Locale.ROOT)).collect(Collectors.joining("", "-fields", ""));
+        }
+        String eTag = findResultETag(resultUuid, representation);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        // checked before streaming, the status can not be changed once the body is being written
+        if (eTag == null || !dynamicMarginCalculationResultService.existsResult(resultUuid)) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = outputStream -> dynamicMarginCalculationResultService.writeResult(resultUuid, outputStream, mediaType, fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(mediaType))
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/export", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Export a table of a dynamic margin calculation result as CSV, streamed from the database")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The CSV file of the table"),
+        @ApiResponse(responseCode = "304", description = "The dynamic margin calculation result has not changed since the given entity tag"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<StreamingResponseBody> exportResult(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                              @Parameter(description = "Exported table") @RequestParam(name = "table") ResultExportTable table,
+                                                              WebRequest webRequest) {
+        String eTag = findResultETag(resultUuid, "csv");
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // checked before streaming, the status can not be changed once the body is being written
+        if (eTag == null || !dynamicMarginCalculationResultService.existsResult(resultUuid)) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = outputStream -> dynamicMarginCalculationResultService.writeCsv(resultUuid, table, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                .eTag(eTag)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(resultUuid + "_" + table.getFileName() + ".csv").build().toString())
+                .body(body);
+    }
+
+    // all fields when none is given, only the load levels, ids and statuses when the given list is empty
+    private static Set<ResultField> toFields(Set<ResultField> fields) {
+        if (fields == null) {
+            return EnumSet.allOf(ResultField.class);
+        }
+        // in declaration order, for stable entity tags
+        Set<ResultField> orderedFields = EnumSet.noneOf(ResultField.class);
+        orderedFields.addAll(fields);
+        return orderedFields;
+    }
+
+    /**
+     * Strong entity tag of a representation of the result, read from the status table only so that an unchanged result
+     * is answered without reading the result tables.
+     */
+    private String findResultETag(UUID resultUuid, String representation) {
+        String resultETag = dynamicMarginCalculationResultService.findResultETag(resultUuid);
+        return resultETag != null ? "\"" + resultETag + "-" + representation + "\"" : null;
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/summary", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get the summary of a dynamic margin calculation result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation result summary"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<ResultSummaryInfos> getResultSummary(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        return ResponseEntity.ok(dynamicMarginCalculationResultService.findResultSummary(resultUuid));
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/scenario-results", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get the scenario results of a dynamic margin calculation result, by pages filtered and sorted by the server")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The page of scenario results, with the total number of matching scenario results in the " + HEADER_TOTAL_COUNT + " header"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort property"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<List<ScenarioResultInfos>> getScenarioResults(
+            @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+            @Parameter(description = "page number, from 0") @RequestParam(name = "page", defaultValue = "0") int page,
+            @Parameter(description = "page size") @RequestParam(name = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "sort criteria, as sort=property[,asc|desc] repeated per property with property among loadLevel, loadIncreaseStatus, equipmentId and status")
+            Sort sort,
+            @Parameter(description = "scenario result statuses") @RequestParam(name = "status", required = false) List<Status> statuses,
+            @Parameter(description = "equipment id prefix") @RequestParam(name = "equipmentIdPrefix", required = false) String equipmentIdPrefix,
+            @Parameter(description = "min load level, included") @RequestParam(name = "minLoadLevel", required = false) Double minLoadLevel,
+            @Parameter(description = "max load level, included") @RequestParam(name = "maxLoadLevel", required = false) Double maxLoadLevel,
+            @Parameter(description = "text contained in a failed criterion description, case-insensitive") @RequestParam(name = "failedCriterion", required = false) String failedCriterion,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(name = "fields", required = false) Set<ResultField> fields) {
+        ScenarioResultFilter filter = ScenarioResultFilter.builder()
+                .statuses(statuses)
+                .equipmentIdPrefix(equipmentIdPrefix)
+                .minLoadLevel(minLoadLevel)
+                .maxLoadLevel(maxLoadLevel)
+                .failedCriterion(failedCriterion)
+                .build();
+        Page<ScenarioResultInfos> scenarioResults = dynamicMarginCalculationResultService.findScenarioResults(resultUuid, filter, toFields(fields),
+                PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort));
+        return ResponseEntity.ok()
+                .header(HEADER_TOTAL_COUNT, String.valueOf(scenarioResults.getTotalElements()))
+                .body(scenarioResults.getContent());
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/diff", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Compare a dynamic margin calculation result with another one, per equipment id")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The changed margins, the newly failing contingencies and a page of the status changes"),
+        @ApiResponse(responseCode = "404", description = "Dynamic margin calculation result uuid has not been found")})
+    public ResponseEntity<ResultDiffInfos> getResultDiff(
+            @Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+            @Parameter(description = "UUID of the result compared to") @RequestParam(name = "otherResultUuid") UUID otherResultUuid,
+            @Parameter(description = "status changes page number, from 0") @RequestParam(name = "page", defaultValue = "0") int page,
+            @Parameter(description = "status changes page size") @RequestParam(name = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(dynamicMarginCalculationResultService.diffResults(resultUuid, otherResultUuid,
+                PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
     @PutMapping(value = "/results/invalidate-status", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Invalidate the dynamic margin calculation status from the database")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The dynamic margin calculation result uuids have been invalidated")})
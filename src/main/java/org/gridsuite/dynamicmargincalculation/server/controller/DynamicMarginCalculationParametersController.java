@@ -13,14 +13,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicMarginCalculationParametersInfos;
 import org.gridsuite.dynamicmargincalculation.server.service.ParametersService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_SMILE_VALUE;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -30,13 +36,17 @@ import static org.gridsuite.computation.service.NotificationService.HEADER_USER_
 @Tag(name = "Dynamic security analysis server - Parameters")
 public class DynamicMarginCalculationParametersController {
 
+    public static final String HEADER_TOTAL_COUNT = "X-Total-Count";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ParametersService parametersService;
 
     public DynamicMarginCalculationParametersController(ParametersService parametersService) {
         this.parametersService = parametersService;
     }
 
-    @PostMapping(value = "", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
     @Operation(summary = "Create parameters")
     @ApiResponse(responseCode = "200", description = "parameters were created")
     public ResponseEntity<UUID> createParameters(
@@ -59,7 +69,7 @@ public class DynamicMarginCalculationParametersController {
         return ResponseEntity.ok(parametersService.duplicateParameters(sourceParametersUuid));
     }
 
-    @GetMapping(value = "/{uuid}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{uuid}", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
     @Operation(summary = "Get parameters")
     @ApiResponse(responseCode = "200", description = "parameters were returned")
     @ApiResponse(responseCode = "404", description = "parameters were not found")
@@ -69,14 +79,27 @@ public class DynamicMarginCalculationParametersController {
         return ResponseEntity.ok(parametersService.getParameters(parametersUuid, userId));
     }
 
-    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all parameters")
-    @ApiResponse(responseCode = "200", description = "The list of all parameters was returned")
-    public ResponseEntity<List<DynamicMarginCalculationParametersInfos>> getAllParameters() {
-        return ResponseEntity.ok().body(parametersService.getAllParameters());
+    @GetMapping(value = "", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get all parameters, or a page of them ordered by parameters UUID when page or size is given")
+    @ApiResponse(responseCode = "200", description = "The parameters were returned, with the total number of parameters in the " + HEADER_TOTAL_COUNT + " header")
+    public ResponseEntity<List<DynamicMarginCalculationParametersInfos>> getAllParameters(
+            @Parameter(description = "page number, from 0") @RequestParam(name = "page", required = false) Integer page,
+            @Parameter(description = "page size, " + DEFAULT_PAGE_SIZE + " by default when a page is requested") @RequestParam(name = "size", required = false) Integer size) {
+        if (page == null && size == null) {
+            // whole list as before the pages, for the existing callers
+            List<DynamicMarginCalculationParametersInfos> parameters = parametersService.getAllParameters();
+            return ResponseEntity.ok()
+                    .header(HEADER_TOTAL_COUNT, String.valueOf(parameters.size()))
+                    .body(parameters);
+        }
+        Page<DynamicMarginCalculationParametersInfos> parameters = parametersService.getAllParameters(PageRequest.of(
+                Objects.requireNonNullElse(page, 0), Math.min(Objects.requireNonNullElse(size, DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE), Sort.by("id")));
+        return ResponseEntity.ok()
+                .header(HEADER_TOTAL_COUNT, String.valueOf(parameters.getTotalElements()))
+                .body(parameters.getContent());
     }
 
-    @PutMapping(value = "/{uuid}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{uuid}", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
     @Operation(summary = "Update parameters")
     @ApiResponse(responseCode = "200", description = "parameters were updated")
     public ResponseEntity<Void> updateParameters(
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Status of a result pushed to the subscribers, null when the result does not exist.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ResultStatusInfos {
+    private UUID resultUuid;
+
+    private DynamicMarginCalculationStatus status;
+}
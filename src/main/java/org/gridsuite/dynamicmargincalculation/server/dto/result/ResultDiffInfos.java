@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Differences of a margin calculation result with another one, per equipment id of the scenarios.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ResultDiffInfos {
+    private UUID resultUuid;
+
+    private UUID otherResultUuid;
+
+    // equipment ids whose margin differs, ordered by equipment id
+    private List<MarginChangeInfos> marginChanges;
+
+    // equipment ids with a scenario not converging in the other result only, ordered
+    private List<String> newlyFailingContingencies;
+
+    // one page of the scenarios whose status differs, ordered by equipment id then load level
+    private List<StatusChangeInfos> statusChanges;
+
+    private long statusChangeCount;
+}
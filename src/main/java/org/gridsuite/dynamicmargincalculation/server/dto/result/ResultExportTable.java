@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Flat tables of a margin calculation result, as exported. The rows are linked by their index in the lists of the
+ * result rather than by the database ids, so that the export does not depend on the storage mode.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Getter
+public enum ResultExportTable {
+    LOAD_INCREASE_RESULT("load_increase_result",
+            List.of("load_increase_index", "load_level", "status")),
+    LOAD_INCREASE_RESULT_FAILED_CRITERIA("load_increase_result_failed_criteria",
+            List.of("load_increase_index", "criterion_index", "description", "time")),
+    SCENARIO_RESULT("scenario_result",
+            List.of("load_increase_index", "scenario_index", "equipment_id", "status")),
+    SCENARIO_RESULT_FAILED_CRITERIA("scenario_result_failed_criteria",
+            List.of("load_increase_index", "scenario_index", "criterion_index", "description", "time"));
+
+    private final String fileName;
+
+    private final List<String> columns;
+
+    ResultExportTable(String fileName, List<String> columns) {
+        this.fileName = fileName;
+        this.columns = columns;
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+/**
+ * Optional fields of a margin calculation result, the load levels, ids and statuses being always returned. The tables
+ * of a field not requested are not read at all.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public enum ResultField {
+    // scenario results of the load increase results
+    SCENARIO_RESULTS,
+    // failed criteria of the load increase results and of the scenario results
+    FAILED_CRITERIA
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import com.powsybl.dynawo.contingency.results.Status;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Headline numbers of a margin calculation result.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ResultSummaryInfos {
+    private UUID resultUuid;
+
+    // max load level at which the load increase and all scenarios converge, null if none
+    private Double finalMargin;
+
+    private int loadIncreaseResultCount;
+
+    // scenario results count per status, over all load levels
+    private Map<Status, Integer> scenarioResultCounts;
+
+    // scenarios not converging at the first unsecure load level above the final margin
+    private List<String> limitingContingencies;
+}
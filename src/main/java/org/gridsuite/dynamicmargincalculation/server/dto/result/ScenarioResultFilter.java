@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import com.powsybl.dynawo.contingency.results.Status;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Criteria on the scenario results, every null or empty criterion being ignored.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ScenarioResultFilter {
+    private List<Status> statuses;
+
+    private String equipmentIdPrefix;
+
+    private Double minLoadLevel;
+
+    private Double maxLoadLevel;
+
+    // case-insensitive text searched in the descriptions of the failed criteria
+    private String failedCriterion;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.Status;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A scenario result flattened with its load increase result, one row of the scenario results table.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ScenarioResultInfos {
+    private double loadLevel;
+
+    private Status loadIncreaseStatus;
+
+    private String equipmentId;
+
+    private Status status;
+
+    // null when not requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<FailedCriterion> failedCriteria;
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.dto.result;
+
+import com.powsybl.dynawo.contingency.results.Status;
+import lombok.*;
+
+/**
+ * Status of the scenario of an equipment id at a load level in two results, null when the scenario is absent.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class StatusChangeInfos {
+    private String equipmentId;
+
+    private double loadLevel;
+
+    private Status status;
+
+    private Status otherStatus;
+}
@@ -8,12 +8,12 @@
 package org.gridsuite.dynamicmargincalculation.server.entities;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -23,7 +23,6 @@ import java.util.UUID;
 @Setter
 @Table(name = "dynamic_margin_calculation_status")
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 public class DynamicMarginCalculationStatusEntity {
 
@@ -32,6 +31,11 @@ public class DynamicMarginCalculationStatusEntity {
         this.status = status;
     }
 
+    public DynamicMarginCalculationStatusEntity(UUID resultUuid, DynamicMarginCalculationStatus status, String debugFileLocation) {
+        this(resultUuid, status);
+        this.debugFileLocation = debugFileLocation;
+    }
+
     @Id
     @Column(name = "result_uuid")
     private UUID resultUuid;
@@ -43,4 +47,18 @@ public class DynamicMarginCalculationStatusEntity {
     @Column(name = "debugFileLocation")
     private String debugFileLocation;
 
+    // drives the retention of the result, set explicitly by the bulk status updates
+    @Column(name = "last_modification_date")
+    private Instant lastModificationDate;
+
+    // bumped on each change of the status or the result, the entity tag of the result derives from it
+    @Column(name = "result_version", nullable = false)
+    private long resultVersion;
+
+    @PrePersist
+    @PreUpdate
+    void updateLastModificationDate() {
+        lastModificationDate = Instant.now();
+    }
+
 }
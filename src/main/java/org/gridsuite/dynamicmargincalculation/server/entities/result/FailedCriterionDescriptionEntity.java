@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.entities.result;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Dictionary of the failed criterion descriptions, each distinct text stored once and referenced by id from the failed
+ * criteria tables. The id is derived from the text by {@link org.gridsuite.dynamicmargincalculation.server.utils.FailedCriterionDescriptions}.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "failed_criterion_description")
+public class FailedCriterionDescriptionEntity {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "description", columnDefinition = "TEXT", nullable = false)
+    private String description;
+}
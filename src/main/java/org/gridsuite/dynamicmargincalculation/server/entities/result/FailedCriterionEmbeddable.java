@@ -8,8 +8,7 @@
 package org.gridsuite.dynamicmargincalculation.server.entities.result;
 
 import com.powsybl.dynawo.contingency.results.FailedCriterion;
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -23,20 +22,15 @@ import lombok.Setter;
 @Embeddable
 public class FailedCriterionEmbeddable {
 
-    @Column(name = "description")
-    private String description;
+    // shared text of the dictionary, loaded once per distinct description by the persistence context
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "description_id")
+    private FailedCriterionDescriptionEntity description;
 
     @Column(name = "time")
     private double time;
 
-    public static FailedCriterionEmbeddable fromDomain(FailedCriterion failedCriterion) {
-        FailedCriterionEmbeddable embeddable = new FailedCriterionEmbeddable();
-        embeddable.setDescription(failedCriterion.description());
-        embeddable.setTime(failedCriterion.time());
-        return embeddable;
-    }
-
     public FailedCriterion toDto() {
-        return new FailedCriterion(description, time);
+        return new FailedCriterion(description != null ? description.getDescription() : null, time);
     }
 }
@@ -65,21 +65,6 @@ public class LoadIncreaseResultEntity {
     @OrderColumn(name = "pos")
     private List<FailedCriterionEmbeddable> failedCriteria = new ArrayList<>();
 
-    public static LoadIncreaseResultEntity fromDomain(LoadIncreaseResult loadIncreaseResult) {
-        LoadIncreaseResultEntity entity = new LoadIncreaseResultEntity();
-        entity.setId(UUID.randomUUID());
-        entity.setLoadLevel(loadIncreaseResult.loadLevel());
-        entity.setStatus(loadIncreaseResult.status());
-
-        List<ScenarioResult> scenarioResults = loadIncreaseResult.scenarioResults();
-        entity.setScenarioResults(scenarioResults.stream().map(ScenarioResultEntity::fromDomain).toList());
-
-        List<FailedCriterion> failedCriteria = loadIncreaseResult.failedCriteria();
-        entity.setFailedCriteria(failedCriteria.stream().map(FailedCriterionEmbeddable::fromDomain).toList());
-
-        return entity;
-    }
-
     public LoadIncreaseResult toDto() {
         List<ScenarioResult> scenarioResultList = scenarioResults.stream().map(ScenarioResultEntity::toDto).toList();
         List<FailedCriterion> failedCriterionList = failedCriteria.stream().map(FailedCriterionEmbeddable::toDto).toList();
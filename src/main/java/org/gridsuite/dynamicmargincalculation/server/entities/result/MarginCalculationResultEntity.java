@@ -12,6 +12,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultCodec;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,16 +39,22 @@ public class MarginCalculationResultEntity {
     @OrderColumn(name = "pos")
     private List<LoadIncreaseResultEntity> loadIncreaseResults = new ArrayList<>();
 
-    public static MarginCalculationResultEntity fromDomain(UUID resultUuid, MarginCalculationResult marginCalculationResult) {
-        MarginCalculationResultEntity entity = new MarginCalculationResultEntity();
-        entity.setResultUuid(resultUuid);
+    // whole result encoded by MarginCalculationResultCodec when stored in COMPRESSED mode, null otherwise
+    @Column(name = "result_data")
+    private byte[] resultData;
 
-        entity.setLoadIncreaseResults(marginCalculationResult.getLoadIncreaseResults().stream().map(LoadIncreaseResultEntity::fromDomain).toList());
+    // object storage key of the encoded result when offloaded because of its size, null otherwise
+    @Column(name = "result_location")
+    private String resultLocation;
 
-        return entity;
-    }
+    // size in bytes of the offloaded encoded result
+    @Column(name = "result_size")
+    private Long resultSize;
 
     public MarginCalculationResult toDto() {
+        if (resultData != null) {
+            return MarginCalculationResultCodec.decode(resultData);
+        }
         return new MarginCalculationResult(loadIncreaseResults.stream().map(LoadIncreaseResultEntity::toDto).toList());
     }
 
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.entities.result;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public enum ResultStorageMode {
+    /**
+     * One row per load increase result, scenario result and failed criterion
+     */
+    RELATIONAL,
+    /**
+     * The whole result in one compressed binary column of the result row
+     */
+    COMPRESSED
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.entities.result;
+
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultSummaryInfos;
+
+import java.util.*;
+
+/**
+ * Summary computed once when the result is saved, so that it can be served without loading the result graph.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "dynamic_margin_calculation_result_summary")
+public class ResultSummaryEntity {
+    @Id
+    @Column(name = "result_uuid")
+    private UUID resultUuid;
+
+    @Column(name = "final_margin")
+    private Double finalMargin;
+
+    @Column(name = "load_increase_result_count")
+    private int loadIncreaseResultCount;
+
+    @Column(name = "convergence_count")
+    private int convergenceCount;
+
+    @Column(name = "criteria_non_respected_count")
+    private int criteriaNonRespectedCount;
+
+    @Column(name = "execution_problem_count")
+    private int executionProblemCount;
+
+    @ElementCollection
+    @CollectionTable(
+            name = "result_summary_limiting_contingency",
+            joinColumns = @JoinColumn(
+                name = "result_uuid",
+                referencedColumnName = "result_uuid",
+                foreignKey = @ForeignKey(name = "result_summary_limiting_contingency_result_uuid_fk")
+            )
+    )
+    @Column(name = "contingency_id")
+    @OrderColumn(name = "pos")
+    private List<String> limitingContingencies = new ArrayList<>();
+
+    private static boolean isSecure(LoadIncreaseResult loadIncreaseResult) {
+        return loadIncreaseResult.status() == Status.CONVERGENCE
+                && loadIncreaseResult.scenarioResults().stream().allMatch(scenarioResult -> scenarioResult.status() == Status.CONVERGENCE);
+    }
+
+    public static ResultSummaryEntity fromDomain(UUID resultUuid, MarginCalculationResult result) {
+        ResultSummaryEntity entity = new ResultSummaryEntity();
+        entity.setResultUuid(resultUuid);
+        List<LoadIncreaseResult> loadIncreaseResults = result.getLoadIncreaseResults();
+        entity.setLoadIncreaseResultCount(loadIncreaseResults.size());
+
+        Double finalMargin = null;
+        for (LoadIncreaseResult loadIncreaseResult : loadIncreaseResults) {
+            if (isSecure(loadIncreaseResult) && (finalMargin == null || loadIncreaseResult.loadLevel() > finalMargin)) {
+                finalMargin = loadIncreaseResult.loadLevel();
+            }
+            for (ScenarioResult scenarioResult : loadIncreaseResult.scenarioResults()) {
+                if (scenarioResult.status() == null) {
+                    continue;
+                }
+                switch (scenarioResult.status()) {
+                    case CONVERGENCE -> entity.convergenceCount++;
+                    case CRITERIA_NON_RESPECTED -> entity.criteriaNonRespectedCount++;
+                    case EXECUTION_PROBLEM -> entity.executionProblemCount++;
+                }
+            }
+        }
+        entity.setFinalMargin(finalMargin);
+
+        // the first load level above the margin where scenarios fail gives the limiting contingencies
+        Double margin = finalMargin;
+        loadIncreaseResults.stream()
+                .filter(loadIncreaseResult -> margin == null || loadIncreaseResult.loadLevel() > margin)
+                .filter(loadIncreaseResult -> loadIncreaseResult.scenarioResults().stream().anyMatch(scenarioResult -> scenarioResult.status() != Status.CONVERGENCE))
+                .min(Comparator.comparingDouble(LoadIncreaseResult::loadLevel))
+                .ifPresent(loadIncreaseResult -> entity.setLimitingContingencies(loadIncreaseResult.scenarioResults().stream()
+                        .filter(scenarioResult -> scenarioResult.status() != Status.CONVERGENCE)
+                        .map(ScenarioResult::id)
+                        .toList()));
+        return entity;
+    }
+
+    public ResultSummaryInfos toDto() {
+        Map<Status, Integer> scenarioResultCounts = new EnumMap<>(Status.class);
+        scenarioResultCounts.put(Status.CONVERGENCE, convergenceCount);
+        scenarioResultCounts.put(Status.CRITERIA_NON_RESPECTED, criteriaNonRespectedCount);
+        scenarioResultCounts.put(Status.EXECUTION_PROBLEM, executionProblemCount);
+        return ResultSummaryInfos.builder()
+                .resultUuid(resultUuid)
+                .finalMargin(finalMargin)
+                .loadIncreaseResultCount(loadIncreaseResultCount)
+                .scenarioResultCounts(scenarioResultCounts)
+                .limitingContingencies(List.copyOf(limitingContingencies))
+                .build();
+    }
+}
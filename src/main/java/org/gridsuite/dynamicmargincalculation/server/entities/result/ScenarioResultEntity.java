@@ -56,17 +56,6 @@ public class ScenarioResultEntity {
     @OrderColumn(name = "pos")
     private List<FailedCriterionEmbeddable> failedCriteria = new ArrayList<>();
 
-    public static ScenarioResultEntity fromDomain(ScenarioResult scenarioResult) {
-        ScenarioResultEntity embeddable = new ScenarioResultEntity();
-        embeddable.setId(UUID.randomUUID());
-        embeddable.setStatus(scenarioResult.status());
-
-        List<FailedCriterion> failedCriteriaList = scenarioResult.failedCriteria();
-        embeddable.setFailedCriteria(failedCriteriaList.stream().map(FailedCriterionEmbeddable::fromDomain).toList());
-
-        return embeddable;
-    }
-
     public ScenarioResult toDto() {
         List<FailedCriterion> failedCriterionList = failedCriteria.stream().map(FailedCriterionEmbeddable::toDto).toList();
 
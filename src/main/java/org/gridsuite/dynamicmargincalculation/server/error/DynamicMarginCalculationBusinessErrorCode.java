@@ -13,7 +13,8 @@ import com.powsybl.ws.commons.error.BusinessErrorCode;
  */
 public enum DynamicMarginCalculationBusinessErrorCode implements BusinessErrorCode {
     PROVIDER_NOT_FOUND("dynamicMarginCalculation.providerNotFound"),
-    LOAD_FILTERS_NOT_FOUND("dynamicMarginCalculation.loadFilterNotFound");
+    LOAD_FILTERS_NOT_FOUND("dynamicMarginCalculation.loadFilterNotFound"),
+    INVALID_SORT_PROPERTY("dynamicMarginCalculation.invalidSortProperty");
 
     private final String code;
 
@@ -35,6 +35,7 @@ public class DynamicMarginCalculationExceptionHandler extends AbstractBusinessEx
         return switch (businessErrorCode) {
             case PROVIDER_NOT_FOUND,
                  LOAD_FILTERS_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case INVALID_SORT_PROPERTY -> HttpStatus.BAD_REQUEST;
         };
     }
 
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.dynamicmargincalculation.server.report;
+
+import com.powsybl.commons.report.ReportResourceBundle;
+
+/**
+ * Message templates of the report nodes added by this server to the computation reports.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class DynamicMarginCalculationServerReportResourceBundle implements ReportResourceBundle {
+
+    public static final String BASE_NAME = "org.gridsuite.dynamicmargincalculation.server.reports";
+
+    @Override
+    public String getBaseName() {
+        return BASE_NAME;
+    }
+}
@@ -8,11 +8,16 @@
 package org.gridsuite.dynamicmargincalculation.server.repositories;
 
 import org.gridsuite.dynamicmargincalculation.server.entities.parameters.DynamicMarginCalculationParametersEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +29,15 @@ public interface DynamicMarginCalculationParametersRepository extends JpaReposit
 
     @Query("SELECT params.provider FROM DynamicMarginCalculationParametersEntity params WHERE params.id = :id")
     Optional<String> findProviderById(@Param("id") UUID id);
+
+    @Query(value = "SELECT params.id FROM DynamicMarginCalculationParametersEntity params",
+           countQuery = "SELECT COUNT(params) FROM DynamicMarginCalculationParametersEntity params")
+    Page<UUID> findAllIds(Pageable pageable);
+
+    // loads variations and their load filters fetched by joins with the parameters, instead of one select per collection
+    @EntityGraph(attributePaths = {"loadsVariations", "loadsVariations.loadFilterIds"})
+    List<DynamicMarginCalculationParametersEntity> findAllByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = {"loadsVariations", "loadsVariations.loadFilterIds"})
+    List<DynamicMarginCalculationParametersEntity> findAllByOrderById();
 }
@@ -7,13 +7,18 @@
 
 package org.gridsuite.dynamicmargincalculation.server.repositories;
 
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
 import org.gridsuite.dynamicmargincalculation.server.entities.DynamicMarginCalculationStatusEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,10 +28,37 @@ import java.util.UUID;
 @Repository
 public interface DynamicMarginCalculationStatusRepository extends JpaRepository<DynamicMarginCalculationStatusEntity, UUID> {
 
+    interface ResultStatus {
+        UUID getResultUuid();
+
+        DynamicMarginCalculationStatus getStatus();
+    }
+
     Optional<DynamicMarginCalculationStatusEntity> findByResultUuid(UUID resultUuid);
 
     void deleteByResultUuid(UUID resultUuid);
 
+    @Modifying
+    @Query("DELETE FROM DynamicMarginCalculationStatusEntity r WHERE r.resultUuid IN :resultUuids")
+    int deleteByResultUuidIn(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    @Query("SELECT r.resultUuid AS resultUuid, r.status AS status FROM DynamicMarginCalculationStatusEntity r WHERE r.resultUuid IN :resultUuids")
+    List<ResultStatus> findStatusesByResultUuidIn(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    /**
+     * Updates the existing statuses among the given ones in one statement, returning their uuids.
+     */
+    @Query(value = "UPDATE dynamic_margin_calculation_status SET status = :status, last_modification_date = :lastModificationDate, " +
+            "result_version = result_version + 1 WHERE result_uuid IN (:resultUuids) RETURNING result_uuid", nativeQuery = true)
+    List<UUID> updateStatusByResultUuidIn(@Param("resultUuids") Collection<UUID> resultUuids, @Param("status") String status,
+                                          @Param("lastModificationDate") Instant lastModificationDate);
+
+    @Query("SELECT r.resultVersion FROM DynamicMarginCalculationStatusEntity r WHERE r.resultUuid = :resultUuid")
+    Optional<Long> findResultVersion(@Param("resultUuid") UUID resultUuid);
+
+    @Query("SELECT r.resultUuid FROM DynamicMarginCalculationStatusEntity r WHERE r.lastModificationDate < :before AND r.status <> :excludedStatus")
+    List<UUID> findExpiredResultUuids(@Param("before") Instant before, @Param("excludedStatus") DynamicMarginCalculationStatus excludedStatus, Limit limit);
+
     @Modifying
     @Query("UPDATE DynamicMarginCalculationStatusEntity r SET r.debugFileLocation = :debugFileLocation WHERE r.resultUuid = :resultUuid")
     int updateDebugFileLocation(@Param("resultUuid") UUID resultUuid, @Param("debugFileLocation") String debugFileLocation);
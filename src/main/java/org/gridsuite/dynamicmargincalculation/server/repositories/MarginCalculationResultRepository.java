@@ -9,8 +9,12 @@ package org.gridsuite.dynamicmargincalculation.server.repositories;
 
 import org.gridsuite.dynamicmargincalculation.server.entities.result.MarginCalculationResultEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,9 +22,19 @@ import java.util.UUID;
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
  */
 @Repository
-public interface MarginCalculationResultRepository extends JpaRepository<MarginCalculationResultEntity, UUID> {
+public interface MarginCalculationResultRepository extends JpaRepository<MarginCalculationResultEntity, UUID>, MarginCalculationResultRepositoryCustom {
 
     Optional<MarginCalculationResultEntity> findByResultUuid(UUID resultUuid);
 
     void deleteByResultUuid(UUID resultUuid);
+
+    @Query("SELECT r.resultLocation FROM MarginCalculationResultEntity r WHERE r.resultUuid IN :resultUuids AND r.resultLocation IS NOT NULL")
+    List<String> findResultLocations(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    @Query("SELECT r.resultLocation FROM MarginCalculationResultEntity r WHERE r.resultLocation IS NOT NULL")
+    List<String> findAllResultLocations();
+
+    @Query("SELECT r.resultUuid FROM MarginCalculationResultEntity r " +
+            "WHERE NOT EXISTS (SELECT s.resultUuid FROM ResultSummaryEntity s WHERE s.resultUuid = r.resultUuid)")
+    List<UUID> findResultUuidsWithoutSummary();
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.repositories;
+
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.MarginChangeInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultFilter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.StatusChangeInfos;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bulk persistence and deletion of the margin calculation result graph, bypassing the JPA cascade.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public interface MarginCalculationResultRepositoryCustom {
+
+    /**
+     * A load increase result without its scenario results.
+     */
+    record LoadIncreaseResultHeader(UUID id, double loadLevel, Status status, List<FailedCriterion> failedCriteria) { }
+
+    /**
+     * The differences of two results aggregated per equipment id, ordered by equipment id.
+     */
+    record ContingencyDiff(List<MarginChangeInfos> marginChanges, List<String> newlyFailingContingencies) { }
+
+    /**
+     * Inserts the whole result graph with JDBC batches, one batch stream per table.
+     */
+    void insertResult(UUID resultUuid, MarginCalculationResult result);
+
+    /**
+     * Inserts the result row only, holding the whole result already encoded.
+     */
+    void insertResultData(UUID resultUuid, byte[] resultData);
+
+    /**
+     * Inserts the result row only, pointing to the whole result encoded in the object storage.
+     */
+    void insertResultLocation(UUID resultUuid, String resultLocation, long resultSize);
+
+    /**
+     * Deletes the given results with one set-based statement per table, children first.
+     *
+     * @return the number of deleted result rows
+     */
+    int deleteResults(Collection<UUID> resultUuids);
+
+    /**
+     * Deletes all results with one statement per table, children first.
+     */
+    void deleteAllResults();
+
+    /**
+     * Returns the load increase results of a result stored as rows, in order, without their scenario results. The failed
+     * criteria are left empty without being read if not requested.
+     */
+    List<LoadIncreaseResultHeader> findLoadIncreaseResultHeaders(UUID resultUuid, boolean withFailedCriteria);
+
+    /**
+     * Reads the scenario results of a load increase result in order from a database cursor, handing them over one by
+     * one so that they are never all held in memory. Must be called within a transaction for the cursor to be used. The
+     * failed criteria are left empty without being read if not requested.
+     */
+    void streamScenarioResults(UUID resultUuid, UUID loadIncreaseResultId, boolean withFailedCriteria, Consumer<ScenarioResult> consumer);
+
+    /**
+     * Returns a page of the scenario results of a result stored as rows, with their load increase result, filtered and
+     * sorted by the database. The sort properties are those of {@link ScenarioResultInfos} except the failed criteria,
+     * the results being otherwise kept in the order of the lists. The failed criteria are null without being read if not
+     * requested, they can still be filtered on.
+     */
+    Page<ScenarioResultInfos> findScenarioResults(UUID resultUuid, ScenarioResultFilter filter, boolean withFailedCriteria, Pageable pageable);
+
+    /**
+     * Reads the rows of a table of a result stored as rows in order from a database cursor, handing them over one by one
+     * with the values of the {@link ResultExportTable#getColumns() table columns}. Must be called within a transaction
+     * for the cursor to be used.
+     */
+    void streamTableRows(UUID resultUuid, ResultExportTable table, Consumer<List<Object>> consumer);
+
+    /**
+     * Compares the margins and the failing scenarios of two results stored as rows per equipment id, aggregated by the
+     * database in one scan of their scenario results.
+     */
+    ContingencyDiff findContingencyDiff(UUID resultUuid, UUID otherResultUuid);
+
+    /**
+     * Returns a page of the scenarios of two results stored as rows whose status differs at the same equipment id and
+     * load level, ordered by equipment id then load level.
+     */
+    Page<StatusChangeInfos> findStatusChanges(UUID resultUuid, UUID otherResultUuid, Pageable pageable);
+}
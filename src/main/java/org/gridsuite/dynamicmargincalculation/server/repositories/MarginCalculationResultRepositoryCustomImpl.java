@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.repositories;
+
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.MarginChangeInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultFilter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.StatusChangeInfos;
+import org.gridsuite.dynamicmargincalculation.server.utils.FailedCriterionDescriptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.gridsuite.dynamicmargincalculation.server.utils.UuidUtils.generateTimeOrderedUuid;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public class MarginCalculationResultRepositoryCustomImpl implements MarginCalculationResultRepositoryCustom {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_RESULT = "INSERT INTO dynamic_margin_calculation_result (result_uuid) VALUES (?)";
+    private static final String INSERT_RESULT_DATA = "INSERT INTO dynamic_margin_calculation_result (result_uuid, result_data) VALUES (?, ?)";
+    private static final String INSERT_RESULT_LOCATION = "INSERT INTO dynamic_margin_calculation_result (result_uuid, result_location, result_size) VALUES (?, ?, ?)";
+    private static final String INSERT_LOAD_INCREASE_RESULT = "INSERT INTO load_increase_result " +
+            "(id, load_level, status, dynamic_margin_calculation_result_uuid, pos) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_LOAD_INCREASE_RESULT_FAILED_CRITERIA = "INSERT INTO load_increase_result_failed_criteria " +
+            "(load_increase_result_id, description_id, time, pos, result_uuid) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SCENARIO_RESULT = "INSERT INTO scenario_result " +
+            "(id, equipment_id, status, load_increase_result_id, pos, result_uuid) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SCENARIO_RESULT_FAILED_CRITERIA = "INSERT INTO scenario_result_failed_criteria " +
+            "(scenario_result_id, description_id, time, pos, result_uuid) VALUES (?, ?, ?, ?, ?)";
+    // concurrent results may insert the same description
+    private static final String INSERT_FAILED_CRITERION_DESCRIPTION = "INSERT INTO failed_criterion_description " +
+            "(id, description) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String SELECT_LOAD_INCREASE_RESULTS = "SELECT id, load_level, status FROM load_increase_result " +
+            "WHERE dynamic_margin_calculation_result_uuid = ? ORDER BY pos";
+    private static final String SELECT_LOAD_INCREASE_RESULT_FAILED_CRITERIA = "SELECT c.load_increase_result_id, d.description, c.time " +
+            "FROM load_increase_result_failed_criteria c LEFT JOIN failed_criterion_description d ON d.id = c.description_id " +
+            "WHERE c.result_uuid = ? ORDER BY c.load_increase_result_id, c.pos";
+    // one row per failed criterion, or one row without criterion, in the order of the lists
+    private static final String SELECT_SCENARIO_RESULTS = "SELECT s.id, s.equipment_id, s.status, c.pos AS criterion_pos, d.description, c.time " +
+            "FROM scenario_result s " +
+            "LEFT JOIN scenario_result_failed_criteria c ON c.result_uuid = s.result_uuid AND c.scenario_result_id = s.id " +
+            "LEFT JOIN failed_criterion_description d ON d.id = c.description_id " +
+            "WHERE s.result_uuid = ? AND s.load_increase_result_id = ? ORDER BY s.pos, c.pos";
+    // same rows without failed criteria, their tables not being read
+    private static final String SELECT_SCENARIO_RESULTS_WITHOUT_FAILED_CRITERIA = "SELECT s.id, s.equipment_id, s.status, NULL AS criterion_pos " +
+            "FROM scenario_result s WHERE s.result_uuid = ? AND s.load_increase_result_id = ? ORDER BY s.pos";
+
+    // joined on the result uuid too, so that only the partitions of the result are visited when the tables are partitioned
+    private static final String FROM_SCENARIO_RESULTS = " FROM scenario_result s " +
+            "JOIN load_increase_result l ON l.dynamic_margin_calculation_result_uuid = s.result_uuid AND l.id = s.load_increase_result_id " +
+            "WHERE s.result_uuid = :resultUuid";
+    private static final String SELECT_SCENARIO_RESULT_PAGE = "SELECT s.id, l.load_level, l.status AS load_increase_status, s.equipment_id, s.status" +
+            FROM_SCENARIO_RESULTS;
+    private static final String COUNT_SCENARIO_RESULTS = "SELECT COUNT(*)" + FROM_SCENARIO_RESULTS;
+    // the descriptions are searched in the dictionary, far smaller than the failed criteria tables
+    private static final String FAILED_CRITERION_CONDITION = " AND EXISTS (SELECT 1 FROM scenario_result_failed_criteria c " +
+            "WHERE c.result_uuid = s.result_uuid AND c.scenario_result_id = s.id AND c.description_id IN " +
+            "(SELECT d.id FROM failed_criterion_description d WHERE LOWER(d.description) LIKE :failedCriterion ESCAPE '\\'))";
+    private static final String SELECT_SCENARIO_RESULT_FAILED_CRITERIA = "SELECT c.scenario_result_id, d.description, c.time " +
+            "FROM scenario_result_failed_criteria c LEFT JOIN failed_criterion_description d ON d.id = c.description_id " +
+            "WHERE c.result_uuid = :resultUuid AND c.scenario_result_id IN (:scenarioResultIds) ORDER BY c.scenario_result_id, c.pos";
+    private static final Map<String, String> SCENARIO_RESULT_SORT_COLUMNS = Map.of(
+            "loadLevel", "l.load_level",
+            "loadIncreaseStatus", "l.status",
+            "equipmentId", "s.equipment_id",
+            "status", "s.status"
+    );
+
+    // the scenario results of both results grouped by equipment id, or by equipment id and load level, in one scan
+    // equivalent to a full outer join of the two results
+    private static final String FROM_DIFF_SCENARIO_RESULTS = " FROM scenario_result s " +
+            "JOIN load_increase_result l ON l.dynamic_margin_calculation_result_uuid = s.result_uuid AND l.id = s.load_increase_result_id " +
+            "WHERE s.result_uuid IN (:resultUuid, :otherResultUuid)";
+    private static final String SELECT_CONTINGENCY_DIFFS = "SELECT * FROM (SELECT s.equipment_id, " +
+            "MAX(CASE WHEN s.result_uuid = :resultUuid AND s.status = :convergence THEN l.load_level END) AS margin, " +
+            "MAX(CASE WHEN s.result_uuid = :otherResultUuid AND s.status = :convergence THEN l.load_level END) AS other_margin, " +
+            "COUNT(CASE WHEN s.result_uuid = :resultUuid AND s.status <> :convergence THEN 1 END) AS failure_count, " +
+            "COUNT(CASE WHEN s.result_uuid = :otherResultUuid AND s.status <> :convergence THEN 1 END) AS other_failure_count" +
+            FROM_DIFF_SCENARIO_RESULTS + " GROUP BY s.equipment_id) d " +
+            "WHERE d.margin IS DISTINCT FROM d.other_margin OR (d.failure_count = 0 AND d.other_failure_count > 0) " +
+            "ORDER BY d.equipment_id";
+    private static final String FROM_STATUS_CHANGES = " FROM (SELECT s.equipment_id, l.load_level, " +
+            "MAX(CASE WHEN s.result_uuid = :resultUuid THEN s.status END) AS status, " +
+            "MAX(CASE WHEN s.result_uuid = :otherResultUuid THEN s.status END) AS other_status" +
+            FROM_DIFF_SCENARIO_RESULTS + " GROUP BY s.equipment_id, l.load_level) d " +
+            "WHERE d.status IS DISTINCT FROM d.other_status";
+    private static final String SELECT_STATUS_CHANGES = "SELECT d.equipment_id, d.load_level, d.status, d.other_status" +
+            FROM_STATUS_CHANGES + " ORDER BY d.equipment_id, d.load_level";
+    private static final String COUNT_STATUS_CHANGES = "SELECT COUNT(*)" + FROM_STATUS_CHANGES;
+
+    // rows of the exported tables, linked by the list positions
+    private static final String JOIN_LOAD_INCREASE_RESULT = "JOIN load_increase_result l " +
+            "ON l.dynamic_margin_calculation_result_uuid = %1$s.result_uuid AND l.id = %1$s.load_increase_result_id ";
+    private static final String SELECT_LOAD_INCREASE_RESULT_ROWS = "SELECT pos, load_level, status FROM load_increase_result " +
+            "WHERE dynamic_margin_calculation_result_uuid = ? ORDER BY pos";
+    private static final String SELECT_LOAD_INCREASE_RESULT_FAILED_CRITERIA_ROWS = "SELECT l.pos, c.pos, d.description, c.time " +
+            "FROM load_increase_result_failed_criteria c " + JOIN_LOAD_INCREASE_RESULT.formatted("c") +
+            "LEFT JOIN failed_criterion_description d ON d.id = c.description_id " +
+            "WHERE c.result_uuid = ? ORDER BY l.pos, c.pos";
+    private static final String SELECT_SCENARIO_RESULT_ROWS = "SELECT l.pos, s.pos, s.equipment_id, s.status " +
+            "FROM scenario_result s " + JOIN_LOAD_INCREASE_RESULT.formatted("s") +
+            "WHERE s.result_uuid = ? ORDER BY l.pos, s.pos";
+    private static final String SELECT_SCENARIO_RESULT_FAILED_CRITERIA_ROWS = "SELECT l.pos, s.pos, c.pos, d.description, c.time " +
+            "FROM scenario_result_failed_criteria c " +
+            "JOIN scenario_result s ON s.result_uuid = c.result_uuid AND s.id = c.scenario_result_id " + JOIN_LOAD_INCREASE_RESULT.formatted("s") +
+            "LEFT JOIN failed_criterion_description d ON d.id = c.description_id " +
+            "WHERE c.result_uuid = ? ORDER BY l.pos, s.pos, c.pos";
+
+    // children first to satisfy the foreign keys, every table being filtered on its own result uuid column so that
+    // only the partitions of the given results are visited when the tables are partitioned
+    private static final List<String> DELETE_RESULTS = List.of(
+            "DELETE FROM result_summary_limiting_contingency WHERE result_uuid IN (:resultUuids)",
+            "DELETE FROM dynamic_margin_calculation_result_summary WHERE result_uuid IN (:resultUuids)",
+            "DELETE FROM scenario_result_failed_criteria WHERE result_uuid IN (:resultUuids)",
+            "DELETE FROM scenario_result WHERE result_uuid IN (:resultUuids)",
+            "DELETE FROM load_increase_result_failed_criteria WHERE result_uuid IN (:resultUuids)",
+            "DELETE FROM load_increase_result WHERE dynamic_margin_calculation_result_uuid IN (:resultUuids)"
+    );
+    private static final String DELETE_RESULT_ROWS = "DELETE FROM dynamic_margin_calculation_result WHERE result_uuid IN (:resultUuids)";
+    private static final List<String> DELETE_ALL_RESULTS = List.of(
+            "DELETE FROM result_summary_limiting_contingency",
+            "DELETE FROM dynamic_margin_calculation_result_summary",
+            "DELETE FROM scenario_result_failed_criteria",
+            "DELETE FROM scenario_result",
+            "DELETE FROM load_increase_result_failed_criteria",
+            "DELETE FROM load_increase_result",
+            "DELETE FROM dynamic_margin_calculation_result"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public MarginCalculationResultRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    private record ResultRow(UUID id, UUID parentId, String equipmentId, double loadLevel, Status status, int pos) { }
+
+    private record FailedCriterionRow(UUID parentId, FailedCriterionDescriptions.Description description, double time, int pos) { }
+
+    @Override
+    public void insertResult(UUID resultUuid, MarginCalculationResult result) {
+        // flatten the result graph in one pass, keeping the list order in the pos columns
+        List<ResultRow> loadIncreaseRows = new ArrayList<>();
+        List<FailedCriterionRow> loadIncreaseFailedCriterionRows = new ArrayList<>();
+        List<ResultRow> scenarioRows = new ArrayList<>();
+        List<FailedCriterionRow> scenarioFailedCriterionRows = new ArrayList<>();
+
+        List<LoadIncreaseResult> loadIncreaseResults = result.getLoadIncreaseResults();
+        for (int i = 0; i < loadIncreaseResults.size(); i++) {
+            LoadIncreaseResult loadIncreaseResult = loadIncreaseResults.get(i);
+            UUID loadIncreaseResultId = generateTimeOrderedUuid();
+            loadIncreaseRows.add(new ResultRow(loadIncreaseResultId, resultUuid, null, loadIncreaseResult.loadLevel(), loadIncreaseResult.status(), i));
+            addFailedCriterionRows(loadIncreaseResultId, loadIncreaseResult.failedCriteria(), loadIncreaseFailedCriterionRows);
+
+            List<ScenarioResult> scenarioResults = loadIncreaseResult.scenarioResults();
+            for (int j = 0; j < scenarioResults.size(); j++) {
+                ScenarioResult scenarioResult = scenarioResults.get(j);
+                UUID scenarioResultId = generateTimeOrderedUuid();
+                scenarioRows.add(new ResultRow(scenarioResultId, loadIncreaseResultId, scenarioResult.id(), 0, scenarioResult.status(), j));
+                addFailedCriterionRows(scenarioResultId, scenarioResult.failedCriteria(), scenarioFailedCriterionRows);
+            }
+        }
+
+        // distinct descriptions of this result, only those are written as text
+        Map<UUID, String> descriptions = new LinkedHashMap<>();
+        Stream.concat(loadIncreaseFailedCriterionRows.stream(), scenarioFailedCriterionRows.stream())
+                .map(FailedCriterionRow::description)
+                .filter(Objects::nonNull)
+                .forEach(description -> descriptions.putIfAbsent(description.id(), description.text()));
+
+        // parents first to satisfy the foreign keys
+        jdbcTemplate.batchUpdate(INSERT_FAILED_CRITERION_DESCRIPTION, descriptions.entrySet(), BATCH_SIZE, (ps, description) -> {
+            ps.setObject(1, description.getKey());
+            ps.setString(2, description.getValue());
+        });
+        jdbcTemplate.update(INSERT_RESULT, resultUuid);
+        jdbcTemplate.batchUpdate(INSERT_LOAD_INCREASE_RESULT, loadIncreaseRows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setDouble(2, row.loadLevel());
+            ps.setString(3, row.status() != null ? row.status().name() : null);
+            ps.setObject(4, row.parentId());
+            ps.setInt(5, row.pos());
+        });
+        jdbcTemplate.batchUpdate(INSERT_LOAD_INCREASE_RESULT_FAILED_CRITERIA, loadIncreaseFailedCriterionRows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.parentId());
+            ps.setObject(2, row.description() != null ? row.description().id() : null);
+            ps.setDouble(3, row.time());
+            ps.setInt(4, row.pos());
+            ps.setObject(5, resultUuid);
+        });
+        jdbcTemplate.batchUpdate(INSERT_SCENARIO_RESULT, scenarioRows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setString(2, row.equipmentId());
+            ps.setString(3, row.status() != null ? row.status().name() : null);
+            ps.setObject(4, row.parentId());
+            ps.setInt(5, row.pos());
+            ps.setObject(6, resultUuid);
+        });
+        jdbcTemplate.batchUpdate(INSERT_SCENARIO_RESULT_FAILED_CRITERIA, scenarioFailedCriterionRows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.parentId());
+            ps.setObject(2, row.description() != null ? row.description().id() : null);
+            ps.setDouble(3, row.time());
+            ps.setInt(4, row.pos());
+            ps.setObject(5, resultUuid);
+        });
+    }
+
+    @Override
+    public void insertResultData(UUID resultUuid, byte[] resultData) {
+        jdbcTemplate.update(INSERT_RESULT_DATA, ps -> {
+            ps.setObject(1, resultUuid);
+            ps.setBytes(2, resultData);
+        });
+    }
+
+    @Override
+    public void insertResultLocation(UUID resultUuid, String resultLocation, long resultSize) {
+        jdbcTemplate.update(INSERT_RESULT_LOCATION, resultUuid, resultLocation, resultSize);
+    }
+
+    @Override
+    public int deleteResults(Collection<UUID> resultUuids) {
+        int deletedCount = 0;
+        // chunked to keep the IN lists under the bind parameters limit
+        for (List<UUID> chunk : ListUtils.partition(List.copyOf(resultUuids), BATCH_SIZE)) {
+            Map<String, List<UUID>> params = Map.of("resultUuids", chunk);
+            DELETE_RESULTS.forEach(sql -> namedParameterJdbcTemplate.update(sql, params));
+            deletedCount += namedParameterJdbcTemplate.update(DELETE_RESULT_ROWS, params);
+        }
+        return deletedCount;
+    }
+
+    @Override
+    public void deleteAllResults() {
+        DELETE_ALL_RESULTS.forEach(jdbcTemplate::update);
+    }
+
+    @Override
+    public List<LoadIncreaseResultHeader> findLoadIncreaseResultHeaders(UUID resultUuid, boolean withFailedCriteria) {
+        Map<UUID, List<FailedCriterion>> failedCriteriaById = new HashMap<>();
+        if (withFailedCriteria) {
+            jdbcTemplate.query(SELECT_LOAD_INCREASE_RESULT_FAILED_CRITERIA, rs -> {
+                failedCriteriaById.computeIfAbsent(rs.getObject("load_increase_result_id", UUID.class), id -> new ArrayList<>())
+                        .add(new FailedCriterion(rs.getString("description"), rs.getDouble("time")));
+            }, resultUuid);
+        }
+        return jdbcTemplate.query(SELECT_LOAD_INCREASE_RESULTS, (rs, rowNum) -> {
+            UUID id = rs.getObject("id", UUID.class);
+            return new LoadIncreaseResultHeader(id, rs.getDouble("load_level"), toStatus(rs.getString("status")),
+                    failedCriteriaById.getOrDefault(id, List.of()));
+        }, resultUuid);
+    }
+
+    @Override
+    public void streamScenarioResults(UUID resultUuid, UUID loadIncreaseResultId, boolean withFailedCriteria, Consumer<ScenarioResult> consumer) {
+        ScenarioResultCollector collector = new ScenarioResultCollector(consumer);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(withFailedCriteria ? SELECT_SCENARIO_RESULTS : SELECT_SCENARIO_RESULTS_WITHOUT_FAILED_CRITERIA);
+            // cursor fetching the rows by chunks instead of all at once
+            ps.setFetchSize(BATCH_SIZE);
+            ps.setObject(1, resultUuid);
+            ps.setObject(2, loadIncreaseResultId);
+            return ps;
+        }, collector);
+        collector.flush();
+    }
+
+    @Override
+    public Page<ScenarioResultInfos> findScenarioResults(UUID resultUuid, ScenarioResultFilter filter, boolean withFailedCriteria, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("resultUuid", resultUuid);
+        StringBuilder conditions = new StringBuilder();
+        if (CollectionUtils.isNotEmpty(filter.getStatuses())) {
+            conditions.append(" AND s.status IN (:statuses)");
+            parameters.addValue("statuses", filter.getStatuses().stream().map(Status::name).toList());
+        }
+        if (StringUtils.isNotEmpty(filter.getEquipmentIdPrefix())) {
+            conditions.append(" AND s.equipment_id LIKE :equipmentIdPrefix ESCAPE '\\'");
+            parameters.addValue("equipmentIdPrefix", escapeLike(filter.getEquipmentIdPrefix()) + "%");
+        }
+        if (filter.getMinLoadLevel() != null) {
+            conditions.append(" AND l.load_level >= :minLoadLevel");
+            parameters.addValue("minLoadLevel", filter.getMinLoadLevel());
+        }
+        if (filter.getMaxLoadLevel() != null) {
+            conditions.append(" AND l.load_level <= :maxLoadLevel");
+            parameters.addValue("maxLoadLevel", filter.getMaxLoadLevel());
+        }
+        if (StringUtils.isNotEmpty(filter.getFailedCriterion())) {
+            conditions.append(FAILED_CRITERION_CONDITION);
+            parameters.addValue("failedCriterion", "%" + escapeLike(filter.getFailedCriterion().toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        StringBuilder query = new StringBuilder(SELECT_SCENARIO_RESULT_PAGE).append(conditions).append(" ORDER BY ");
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SCENARIO_RESULT_SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported scenario result sort property: " + order.getProperty());
+            }
+            query.append(column).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        // list order as tie-breaker, for stable pages
+        query.append("l.pos, s.pos");
+        if (pageable.isPaged()) {
+            query.append(" LIMIT :limit OFFSET :offset");
+            parameters.addValue("limit", pageable.getPageSize());
+            parameters.addValue("offset", pageable.getOffset());
+        }
+
+        Map<UUID, ScenarioResultInfos> scenarioResults = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(query.toString(), parameters, rs -> {
+            scenarioResults.put(rs.getObject("id", UUID.class), ScenarioResultInfos.builder()
+                    .loadLevel(rs.getDouble("load_level"))
+                    .loadIncreaseStatus(toStatus(rs.getString("load_increase_status")))
+                    .equipmentId(rs.getString("equipment_id"))
+                    .status(toStatus(rs.getString("status")))
+                    .failedCriteria(withFailedCriteria ? new ArrayList<>() : null)
+                    .build());
+        });
+        // failed criteria of the page only, in one query
+        if (withFailedCriteria && !scenarioResults.isEmpty()) {
+            MapSqlParameterSource failedCriteriaParameters = new MapSqlParameterSource("resultUuid", resultUuid)
+                    .addValue("scenarioResultIds", scenarioResults.keySet());
+            namedParameterJdbcTemplate.query(SELECT_SCENARIO_RESULT_FAILED_CRITERIA, failedCriteriaParameters, rs -> {
+                scenarioResults.get(rs.getObject("scenario_result_id", UUID.class)).getFailedCriteria()
+                        .add(new FailedCriterion(rs.getString("description"), rs.getDouble("time")));
+            });
+        }
+
+        // the count query is skipped when the page is enough to know the total
+        return PageableExecutionUtils.getPage(new ArrayList<>(scenarioResults.values()), pageable,
+                () -> namedParameterJdbcTemplate.queryForObject(COUNT_SCENARIO_RESULTS + conditions, parameters, Long.class));
+    }
+
+    @Override
+    public void streamTableRows(UUID resultUuid, ResultExportTable table, Consumer<List<Object>> consumer) {
+        String query = switch (table) {
+            case LOAD_INCREASE_RESULT -> SELECT_LOAD_INCREASE_RESULT_ROWS;
+            case LOAD_INCREASE_RESULT_FAILED_CRITERIA -> SELECT_LOAD_INCREASE_RESULT_FAILED_CRITERIA_ROWS;
+            case SCENARIO_RESULT -> SELECT_SCENARIO_RESULT_ROWS;
+            case SCENARIO_RESULT_FAILED_CRITERIA -> SELECT_SCENARIO_RESULT_FAILED_CRITERIA_ROWS;
+        };
+        int columnCount = table.getColumns().size();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(query);
+            // cursor fetching the rows by chunks instead of all at once
+            ps.setFetchSize(BATCH_SIZE);
+            ps.setObject(1, resultUuid);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                row.add(rs.getObject(i));
+            }
+            consumer.accept(row);
+        });
+    }
+
+    @Override
+    public ContingencyDiff findContingencyDiff(UUID resultUuid, UUID otherResultUuid) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("resultUuid", resultUuid)
+                .addValue("otherResultUuid", otherResultUuid)
+                .addValue("convergence", Status.CONVERGENCE.name());
+        List<MarginChangeInfos> marginChanges = new ArrayList<>();
+        List<String> newlyFailingContingencies = new ArrayList<>();
+        namedParameterJdbcTemplate.query(SELECT_CONTINGENCY_DIFFS, parameters, rs -> {
+            String equipmentId = rs.getString("equipment_id");
+            Double margin = rs.getObject("margin", Double.class);
+            Double otherMargin = rs.getObject("other_margin", Double.class);
+            if (!Objects.equals(margin, otherMargin)) {
+                marginChanges.add(new MarginChangeInfos(equipmentId, margin, otherMargin));
+            }
+            if (rs.getLong("failure_count") == 0 && rs.getLong("other_failure_count") > 0) {
+                newlyFailingContingencies.add(equipmentId);
+            }
+        });
+        return new ContingencyDiff(marginChanges, newlyFailingContingencies);
+    }
+
+    @Override
+    public Page<StatusChangeInfos> findStatusChanges(UUID resultUuid, UUID otherResultUuid, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("resultUuid", resultUuid)
+                .addValue("otherResultUuid", otherResultUuid);
+        StringBuilder query = new StringBuilder(SELECT_STATUS_CHANGES);
+        if (pageable.isPaged()) {
+            query.append(" LIMIT :limit OFFSET :offset");
+            parameters.addValue("limit", pageable.getPageSize());
+            parameters.addValue("offset", pageable.getOffset());
+        }
+        List<StatusChangeInfos> statusChanges = namedParameterJdbcTemplate.query(query.toString(), parameters, (rs, rowNum) ->
+                new StatusChangeInfos(rs.getString("equipment_id"), rs.getDouble("load_level"),
+                        toStatus(rs.getString("status")), toStatus(rs.getString("other_status"))));
+        return PageableExecutionUtils.getPage(statusChanges, pageable,
+                () -> namedParameterJdbcTemplate.queryForObject(COUNT_STATUS_CHANGES, parameters, Long.class));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Groups the consecutive rows of a scenario result, handing it over once its last row is read.
+     */
+    private static final class ScenarioResultCollector implements RowCallbackHandler {
+        private final Consumer<ScenarioResult> consumer;
+        private UUID id;
+        private String equipmentId;
+        private Status status;
+        private List<FailedCriterion> failedCriteria = new ArrayList<>();
+
+        private ScenarioResultCollector(Consumer<ScenarioResult> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID rowId = rs.getObject("id", UUID.class);
+            if (!rowId.equals(id)) {
+                flush();
+                id = rowId;
+                equipmentId = rs.getString("equipment_id");
+                status = toStatus(rs.getString("status"));
+            }
+            if (rs.getObject("criterion_pos") != null) {
+                failedCriteria.add(new FailedCriterion(rs.getString("description"), rs.getDouble("time")));
+            }
+        }
+
+        void flush() {
+            if (id != null) {
+                consumer.accept(new ScenarioResult(equipmentId, status, failedCriteria));
+                id = null;
+                failedCriteria = new ArrayList<>();
+            }
+        }
+    }
+
+    private static Status toStatus(String status) {
+        return status != null ? Status.valueOf(status) : null;
+    }
+
+    private static void addFailedCriterionRows(UUID parentId, List<FailedCriterion> failedCriteria, List<FailedCriterionRow> rows) {
+        for (int i = 0; i < failedCriteria.size(); i++) {
+            FailedCriterion failedCriterion = failedCriteria.get(i);
+            rows.add(new FailedCriterionRow(parentId, FailedCriterionDescriptions.intern(failedCriterion.description()), failedCriterion.time(), i));
+        }
+    }
+}
@@ -7,24 +7,77 @@
 
 package org.gridsuite.dynamicmargincalculation.server.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
 import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.computation.error.ComputationException;
 import org.gridsuite.computation.service.AbstractComputationResultService;
+import org.gridsuite.dynamicmargincalculation.server.config.ReadFromReplica;
 import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.MarginChangeInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultDiffInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultField;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultSummaryInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultFilter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.StatusChangeInfos;
 import org.gridsuite.dynamicmargincalculation.server.entities.DynamicMarginCalculationStatusEntity;
 import org.gridsuite.dynamicmargincalculation.server.entities.result.MarginCalculationResultEntity;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.ResultStorageMode;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.ResultSummaryEntity;
+import org.gridsuite.dynamicmargincalculation.server.error.DynamicMarginCalculationException;
 import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
 import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepositoryCustom.ContingencyDiff;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepositoryCustom.LoadIncreaseResultHeader;
+import org.gridsuite.dynamicmargincalculation.server.repositories.ResultSummaryRepository;
+import org.gridsuite.dynamicmargincalculation.server.utils.CsvWriter;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultCodec;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultJsonWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.RESULT_NOT_FOUND;
+import static org.gridsuite.dynamicmargincalculation.server.error.DynamicMarginCalculationBusinessErrorCode.INVALID_SORT_PROPERTY;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -35,38 +88,73 @@ public class DynamicMarginCalculationResultService extends AbstractComputationRe
 
     public static final String MSG_RESULT_UUID_NOT_FOUND = "Result uuid not found: ";
 
+    // sort properties of the scenario results, matching the columns sorted by the database
+    private static final Map<String, Comparator<ScenarioResultInfos>> SCENARIO_RESULT_COMPARATORS = Map.of(
+            "loadLevel", Comparator.comparingDouble(ScenarioResultInfos::getLoadLevel),
+            "loadIncreaseStatus", Comparator.comparing(ScenarioResultInfos::getLoadIncreaseStatus, Comparator.nullsLast(Comparator.comparing(Status::name))),
+            "equipmentId", Comparator.comparing(ScenarioResultInfos::getEquipmentId, Comparator.nullsLast(Comparator.naturalOrder())),
+            "status", Comparator.comparing(ScenarioResultInfos::getStatus, Comparator.nullsLast(Comparator.comparing(Status::name)))
+    );
+
+    // order of the status changes, as sorted by the database
+    private record ScenarioKey(String equipmentId, double loadLevel) { }
+
+    private static final Comparator<ScenarioKey> SCENARIO_KEY_COMPARATOR = Comparator
+            .comparing(ScenarioKey::equipmentId, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingDouble(ScenarioKey::loadLevel);
+
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    private static final int FIND_CHUNK_SIZE = 1000;
+
     private final DynamicMarginCalculationStatusRepository statusRepository;
     private final MarginCalculationResultRepository resultRepository;
+    private final ResultSummaryRepository resultSummaryRepository;
+    private final ResultStorageMode storageMode;
+    private final ResultObjectStorageService resultObjectStorageService;
+    private final ResultStatusCache statusCache;
 
     public DynamicMarginCalculationResultService(DynamicMarginCalculationStatusRepository statusRepository,
-                                                 MarginCalculationResultRepository resultRepository) {
+                                                 MarginCalculationResultRepository resultRepository,
+                                                 ResultSummaryRepository resultSummaryRepository,
+                                                 @Value("${dynamic-margin-calculation.result.storage-mode:RELATIONAL}") ResultStorageMode storageMode,
+                                                 ResultObjectStorageService resultObjectStorageService,
+                                                 ResultStatusCache statusCache) {
         this.statusRepository = statusRepository;
         this.resultRepository = resultRepository;
+        this.resultSummaryRepository = resultSummaryRepository;
+        this.storageMode = storageMode;
+        this.resultObjectStorageService = resultObjectStorageService;
+        this.statusCache = statusCache;
     }
 
     @Override
     @Transactional
     public void insertStatus(List<UUID> resultUuids, DynamicMarginCalculationStatus status) {
         Objects.requireNonNull(resultUuids);
+        statusCache.evictAfterCommit(resultUuids);
         statusRepository.saveAll(resultUuids.stream()
             .map(uuid -> new DynamicMarginCalculationStatusEntity(uuid, status)).toList());
     }
 
     @Transactional
     public List<UUID> updateStatus(List<UUID> resultUuids, DynamicMarginCalculationStatus status) {
-        // find status entities
-        List<DynamicMarginCalculationStatusEntity> resultEntities = statusRepository.findAllById(resultUuids);
-        // set entity with new values
-        resultEntities.forEach(resultEntity -> resultEntity.setStatus(status));
-        // save entities into database
-        return statusRepository.saveAllAndFlush(resultEntities).stream().map(DynamicMarginCalculationStatusEntity::getResultUuid).toList();
+        statusCache.evictAfterCommit(resultUuids);
+        List<UUID> updatedResultUuids = new ArrayList<>();
+        // one set-based update returning the updated uuids per chunk, instead of one select and one update per entity
+        for (List<UUID> chunk : ListUtils.partition(List.copyOf(resultUuids), UPDATE_CHUNK_SIZE)) {
+            updatedResultUuids.addAll(statusRepository.updateStatusByResultUuidIn(chunk, status.name(), Instant.now()));
+        }
+        return updatedResultUuids;
     }
 
     private void doUpdateStatus(UUID resultUuid, DynamicMarginCalculationStatus status) {
         LOGGER.debug("Update margin calculation status [resultUuid={}, status={}", resultUuid, status);
+        statusCache.evictAfterCommit(List.of(resultUuid));
         DynamicMarginCalculationStatusEntity resultEntity = statusRepository.findByResultUuid(resultUuid)
                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
         resultEntity.setStatus(status);
+        resultEntity.setResultVersion(resultEntity.getResultVersion() + 1);
     }
 
     @Transactional
@@ -77,6 +165,7 @@ public class DynamicMarginCalculationResultService extends AbstractComputationRe
     @Override
     @Transactional
     public void saveDebugFileLocation(UUID resultUuid, String debugFilePath) {
+        statusCache.evictAfterCommit(List.of(resultUuid));
         statusRepository.findById(resultUuid).ifPresentOrElse(
                 (var resultEntity) -> statusRepository.updateDebugFileLocation(resultUuid, debugFilePath),
                 () -> statusRepository.save(new DynamicMarginCalculationStatusEntity(resultUuid, DynamicMarginCalculationStatus.NOT_DONE, debugFilePath))
@@ -87,34 +176,395 @@ public class DynamicMarginCalculationResultService extends AbstractComputationRe
     @Transactional
     public void delete(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        statusRepository.deleteByResultUuid(resultUuid);
-        resultRepository.deleteByResultUuid(resultUuid);
+        delete(List.of(resultUuid));
+    }
+
+    /**
+     * Deletes many results at once with set-based statements, instead of loading then deleting each entity graph.
+     */
+    @Transactional
+    public void delete(Collection<UUID> resultUuids) {
+        Objects.requireNonNull(resultUuids);
+        statusCache.evictAfterCommit(resultUuids);
+        for (List<UUID> chunk : ListUtils.partition(List.copyOf(resultUuids), DELETE_CHUNK_SIZE)) {
+            resultObjectStorageService.delete(resultRepository.findResultLocations(chunk));
+            statusRepository.deleteByResultUuidIn(chunk);
+            resultRepository.deleteResults(chunk);
+        }
     }
 
     @Override
     @Transactional
     public void deleteAll() {
-        statusRepository.deleteAll();
-        resultRepository.deleteAll();
+        statusCache.evictAllAfterCommit();
+        resultObjectStorageService.delete(resultRepository.findAllResultLocations());
+        statusRepository.deleteAllInBatch();
+        resultRepository.deleteAllResults();
     }
 
+    // no transaction here, a status served from the cache must not take a database connection
     @Override
-    @Transactional
     public DynamicMarginCalculationStatus findStatus(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return statusRepository.findByResultUuid(resultUuid)
+        return statusCache.get(resultUuid, uuid -> statusRepository.findByResultUuid(uuid)
             .map(DynamicMarginCalculationStatusEntity::getStatus)
-            .orElse(null);
+            .orElse(null));
+    }
+
+    /**
+     * Finds the statuses of many results, the cached ones first then the others with one query per chunk of uuids.
+     * Unknown result uuids are absent from the returned map.
+     */
+    public Map<UUID, DynamicMarginCalculationStatus> findStatuses(Collection<UUID> resultUuids) {
+        Objects.requireNonNull(resultUuids);
+        return statusCache.getAll(resultUuids, uuids -> {
+            Map<UUID, DynamicMarginCalculationStatus> statuses = new HashMap<>();
+            for (List<UUID> chunk : ListUtils.partition(List.copyOf(uuids), FIND_CHUNK_SIZE)) {
+                statusRepository.findStatusesByResultUuidIn(chunk)
+                        .forEach(resultStatus -> statuses.put(resultStatus.getResultUuid(), resultStatus.getStatus()));
+            }
+            return statuses;
+        });
+    }
+
+    public static DynamicMarginCalculationStatus getFinalStatus(MarginCalculationResult result) {
+        return result.getLoadIncreaseResults().stream()
+                .anyMatch(loadIncreaseResult -> loadIncreaseResult.status() == Status.EXECUTION_PROBLEM) ?
+                DynamicMarginCalculationStatus.FAILED :
+                DynamicMarginCalculationStatus.SUCCEED;
     }
 
     @Transactional
     public void insertResult(UUID resultUuid, MarginCalculationResult result, DynamicMarginCalculationStatus status) {
         doUpdateStatus(resultUuid, status);
-        MarginCalculationResultEntity resultEntity = MarginCalculationResultEntity.fromDomain(resultUuid, result);
-        resultRepository.save(resultEntity);
+        // encoded only when stored so or possibly too large for the database, the upper bound being cheap to compute
+        boolean mayOffload = resultObjectStorageService.isOffloadEnabled()
+                && resultObjectStorageService.shouldOffload(MarginCalculationResultCodec.maxEncodedSize(result));
+        byte[] resultData = storageMode == ResultStorageMode.COMPRESSED || mayOffload ?
+                MarginCalculationResultCodec.encode(result) : null;
+        if (resultData != null && resultObjectStorageService.shouldOffload(resultData.length)) {
+            // too large for the database, keep only a pointer to the object storage
+            String resultLocation = resultObjectStorageService.upload(resultUuid, resultData);
+            resultRepository.insertResultLocation(resultUuid, resultLocation, resultData.length);
+        } else if (storageMode == ResultStorageMode.COMPRESSED) {
+            resultRepository.insertResultData(resultUuid, resultData);
+        } else {
+            // bulk insert by JDBC batches instead of the JPA cascade which issues one insert then updates per row
+            resultRepository.insertResult(resultUuid, result);
+        }
+        // headline numbers computed once, served without loading the result graph
+        resultSummaryRepository.save(ResultSummaryEntity.fromDomain(resultUuid, result));
+    }
+
+    @Transactional(readOnly = true)
+    public ResultSummaryInfos findResultSummary(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultSummaryRepository.findById(resultUuid)
+                .or(() -> Optional.ofNullable(findResult(resultUuid))
+                        // result saved before the summaries and not backfilled yet, computed from the whole graph without being saved
+                        .map(result -> ResultSummaryEntity.fromDomain(resultUuid, result)))
+                .map(ResultSummaryEntity::toDto)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findResultUuidsWithoutSummary() {
+        return resultRepository.findResultUuidsWithoutSummary();
+    }
+
+    /**
+     * Saves the summary of a result saved before the summaries.
+     *
+     * @return false if the result is gone or already has a summary
+     */
+    @Transactional
+    public boolean insertResultSummary(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        if (resultSummaryRepository.existsById(resultUuid)) {
+            return false;
+        }
+        MarginCalculationResult result = findResult(resultUuid);
+        if (result == null) {
+            return false;
+        }
+        resultSummaryRepository.save(ResultSummaryEntity.fromDomain(resultUuid, result));
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public MarginCalculationResult findResult(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultRepository.findByResultUuid(resultUuid)
+                .map(this::toDto)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the entity tag of the result, changed by every status update and result insertion, or null if there is no
+     * such result. Only the status table is read.
+     */
+    @Transactional(readOnly = true)
+    public String findResultETag(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return statusRepository.findResultVersion(resultUuid)
+                .map(version -> resultUuid + "-" + version)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsResult(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultRepository.existsById(resultUuid);
+    }
+
+    /**
+     * Writes the result as JSON, Smile or CBOR depending on the given media type to the given stream, with the requested
+     * fields only. A result stored as rows is read from database cursors and written one scenario result at a time, in
+     * constant memory whatever its size, the tables of the fields not requested being not read. A result stored encoded
+     * is decoded whole before being written.
+     */
+    @Transactional(readOnly = true)
+    public void writeResult(UUID resultUuid, OutputStream outputStream, String mediaType, Set<ResultField> fields) {
+        Objects.requireNonNull(resultUuid);
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
+        try (JsonGenerator generator = MarginCalculationResultJsonWriter.createGenerator(outputStream, mediaType)) {
+            if (resultEntity.getResultData() != null || resultEntity.getResultLocation() != null) {
+                MarginCalculationResultJsonWriter.writeResult(generator, toDto(resultEntity), fields);
+                return;
+            }
+            boolean withFailedCriteria = fields.contains(ResultField.FAILED_CRITERIA);
+            MarginCalculationResultJsonWriter.writeStartResult(generator);
+            for (LoadIncreaseResultHeader loadIncreaseResult : resultRepository.findLoadIncreaseResultHeaders(resultUuid, withFailedCriteria)) {
+                MarginCalculationResultJsonWriter.writeStartLoadIncreaseResult(generator, loadIncreaseResult.loadLevel(),
+                        loadIncreaseResult.status(), loadIncreaseResult.failedCriteria(), fields);
+                if (fields.contains(ResultField.SCENARIO_RESULTS)) {
+                    resultRepository.streamScenarioResults(resultUuid, loadIncreaseResult.id(), withFailedCriteria,
+                            scenarioResult -> MarginCalculationResultJsonWriter.writeScenarioResult(generator, scenarioResult, fields));
+                }
+                MarginCalculationResultJsonWriter.writeEndLoadIncreaseResult(generator, fields);
+            }
+            MarginCalculationResultJsonWriter.writeEndResult(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write margin calculation result " + resultUuid, e);
+        }
+    }
+
+    /**
+     * Writes a table of the result as CSV to the given stream. A result stored as rows is read from a database cursor and
+     * written row by row, in constant memory whatever its size. A result stored encoded is decoded whole before being
+     * written.
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(UUID resultUuid, ResultExportTable table, OutputStream outputStream) {
+        Objects.requireNonNull(resultUuid);
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        CsvWriter.writeRow(writer, table.getColumns());
+        Consumer<List<Object>> rowWriter = row -> CsvWriter.writeRow(writer, row);
+        if (resultEntity.getResultData() == null && resultEntity.getResultLocation() == null) {
+            resultRepository.streamTableRows(resultUuid, table, rowWriter);
+        } else {
+            forEachTableRow(toDto(resultEntity), table, rowWriter);
+        }
+        try {
+            // the stream itself is closed by its owner
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write margin calculation result " + resultUuid, e);
+        }
+    }
+
+    private static void forEachTableRow(MarginCalculationResult result, ResultExportTable table, Consumer<List<Object>> consumer) {
+        List<LoadIncreaseResult> loadIncreaseResults = result.getLoadIncreaseResults();
+        for (int i = 0; i < loadIncreaseResults.size(); i++) {
+            LoadIncreaseResult loadIncreaseResult = loadIncreaseResults.get(i);
+            switch (table) {
+                case LOAD_INCREASE_RESULT -> consumer.accept(Arrays.asList(i, loadIncreaseResult.loadLevel(), loadIncreaseResult.status()));
+                case LOAD_INCREASE_RESULT_FAILED_CRITERIA -> {
+                    for (int k = 0; k < loadIncreaseResult.failedCriteria().size(); k++) {
+                        FailedCriterion failedCriterion = loadIncreaseResult.failedCriteria().get(k);
+                        consumer.accept(Arrays.asList(i, k, failedCriterion.description(), failedCriterion.time()));
+                    }
+                }
+                case SCENARIO_RESULT, SCENARIO_RESULT_FAILED_CRITERIA -> {
+                    for (int j = 0; j < loadIncreaseResult.scenarioResults().size(); j++) {
+                        ScenarioResult scenarioResult = loadIncreaseResult.scenarioResults().get(j);
+                        if (table == ResultExportTable.SCENARIO_RESULT) {
+                            consumer.accept(Arrays.asList(i, j, scenarioResult.id(), scenarioResult.status()));
+                            continue;
+                        }
+                        for (int k = 0; k < scenarioResult.failedCriteria().size(); k++) {
+                            FailedCriterion failedCriterion = scenarioResult.failedCriteria().get(k);
+                            consumer.accept(Arrays.asList(i, j, k, failedCriterion.description(), failedCriterion.time()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a page of the scenario results, filtered and sorted by the database for a result stored as rows. A result
+     * stored encoded has no rows to query, it is decoded and filtered in memory instead. The failed criteria are only
+     * returned if requested in the fields.
+     */
+    @Transactional(readOnly = true)
+    public Page<ScenarioResultInfos> findScenarioResults(UUID resultUuid, ScenarioResultFilter filter, Set<ResultField> fields, Pageable pageable) {
+        Objects.requireNonNull(resultUuid);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SCENARIO_RESULT_COMPARATORS.containsKey(order.getProperty())) {
+                throw new DynamicMarginCalculationException(INVALID_SORT_PROPERTY, "Unsupported scenario result sort property: " + order.getProperty());
+            }
+        }
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
+        if (resultEntity.getResultData() == null && resultEntity.getResultLocation() == null) {
+            return resultRepository.findScenarioResults(resultUuid, filter, fields.contains(ResultField.FAILED_CRITERIA), pageable);
+        }
+
+        Comparator<ScenarioResultInfos> comparator = (a, b) -> 0;
+        for (Sort.Order order : pageable.getSort()) {
+            Comparator<ScenarioResultInfos> propertyComparator = SCENARIO_RESULT_COMPARATORS.get(order.getProperty());
+            comparator = comparator.thenComparing(order.isAscending() ? propertyComparator : propertyComparator.reversed());
+        }
+        // stable sort, the list order is kept between equal rows
+        List<ScenarioResultInfos> scenarioResults = toDto(resultEntity).getLoadIncreaseResults().stream()
+                .filter(loadIncreaseResult -> matchesLoadLevel(loadIncreaseResult.loadLevel(), filter))
+                .flatMap(loadIncreaseResult -> loadIncreaseResult.scenarioResults().stream()
+                        .filter(scenarioResult -> matches(scenarioResult, filter))
+                        .map(scenarioResult -> ScenarioResultInfos.builder()
+                                .loadLevel(loadIncreaseResult.loadLevel())
+                                .loadIncreaseStatus(loadIncreaseResult.status())
+                                .equipmentId(scenarioResult.id())
+                                .status(scenarioResult.status())
+                                .failedCriteria(fields.contains(ResultField.FAILED_CRITERIA) ? scenarioResult.failedCriteria() : null)
+                                .build()))
+                .sorted(comparator)
+                .toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(scenarioResults, pageable, scenarioResults.size());
+        }
+        int fromIndex = (int) Math.min(pageable.getOffset(), scenarioResults.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), scenarioResults.size());
+        return new PageImpl<>(scenarioResults.subList(fromIndex, toIndex), pageable, scenarioResults.size());
+    }
+
+    /**
+     * Compares a result with another one per equipment id: changed margins, newly failing contingencies and one page of
+     * the status changes. Results stored as rows are compared by the database in bounded memory, a result stored
+     * encoded has no rows to query and both results are then decoded and compared in memory instead.
+     */
+    @Transactional(readOnly = true)
+    public ResultDiffInfos diffResults(UUID resultUuid, UUID otherResultUuid, Pageable pageable) {
+        Objects.requireNonNull(resultUuid);
+        Objects.requireNonNull(otherResultUuid);
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + resultUuid));
+        MarginCalculationResultEntity otherResultEntity = resultRepository.findByResultUuid(otherResultUuid)
+                .orElseThrow(() -> new ComputationException(RESULT_NOT_FOUND, MSG_RESULT_UUID_NOT_FOUND + otherResultUuid));
+        ResultDiffInfos.ResultDiffInfosBuilder diff = ResultDiffInfos.builder()
+                .resultUuid(resultUuid)
+                .otherResultUuid(otherResultUuid);
+        if (resultEntity.getResultData() == null && resultEntity.getResultLocation() == null
+                && otherResultEntity.getResultData() == null && otherResultEntity.getResultLocation() == null) {
+            ContingencyDiff contingencyDiff = resultRepository.findContingencyDiff(resultUuid, otherResultUuid);
+            Page<StatusChangeInfos> statusChanges = resultRepository.findStatusChanges(resultUuid, otherResultUuid, pageable);
+            return diff.marginChanges(contingencyDiff.marginChanges())
+                    .newlyFailingContingencies(contingencyDiff.newlyFailingContingencies())
+                    .statusChanges(statusChanges.getContent())
+                    .statusChangeCount(statusChanges.getTotalElements())
+                    .build();
+        }
+
+        Map<ScenarioKey, Status> statuses = getScenarioStatuses(toDto(resultEntity));
+        Map<ScenarioKey, Status> otherStatuses = getScenarioStatuses(toDto(otherResultEntity));
+        SortedSet<ScenarioKey> scenarioKeys = new TreeSet<>(SCENARIO_KEY_COMPARATOR);
+        scenarioKeys.addAll(statuses.keySet());
+        scenarioKeys.addAll(otherStatuses.keySet());
+
+        List<StatusChangeInfos> statusChanges = scenarioKeys.stream()
+                .filter(scenarioKey -> statuses.get(scenarioKey) != otherStatuses.get(scenarioKey))
+                .map(scenarioKey -> new StatusChangeInfos(scenarioKey.equipmentId(), scenarioKey.loadLevel(),
+                        statuses.get(scenarioKey), otherStatuses.get(scenarioKey)))
+                .toList();
+        Map<String, Double> margins = getMargins(statuses);
+        Map<String, Double> otherMargins = getMargins(otherStatuses);
+        Set<String> failingEquipmentIds = getFailingEquipmentIds(statuses);
+        Set<String> otherFailingEquipmentIds = getFailingEquipmentIds(otherStatuses);
+        SortedSet<String> equipmentIds = new TreeSet<>(Comparator.nullsLast(Comparator.naturalOrder()));
+        equipmentIds.addAll(margins.keySet());
+        equipmentIds.addAll(otherMargins.keySet());
+
+        int fromIndex = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), statusChanges.size()) : 0;
+        int toIndex = pageable.isPaged() ? Math.min(fromIndex + pageable.getPageSize(), statusChanges.size()) : statusChanges.size();
+        return diff.marginChanges(equipmentIds.stream()
+                        .filter(equipmentId -> !Objects.equals(margins.get(equipmentId), otherMargins.get(equipmentId)))
+                        .map(equipmentId -> new MarginChangeInfos(equipmentId, margins.get(equipmentId), otherMargins.get(equipmentId)))
+                        .toList())
+                .newlyFailingContingencies(equipmentIds.stream()
+                        .filter(equipmentId -> !failingEquipmentIds.contains(equipmentId) && otherFailingEquipmentIds.contains(equipmentId))
+                        .toList())
+                .statusChanges(statusChanges.subList(fromIndex, toIndex))
+                .statusChangeCount(statusChanges.size())
+                .build();
+    }
+
+    private static Map<ScenarioKey, Status> getScenarioStatuses(MarginCalculationResult result) {
+        Map<ScenarioKey, Status> statuses = new HashMap<>();
+        result.getLoadIncreaseResults().forEach(loadIncreaseResult -> loadIncreaseResult.scenarioResults().forEach(scenarioResult ->
+                statuses.put(new ScenarioKey(scenarioResult.id(), loadIncreaseResult.loadLevel()), scenarioResult.status())));
+        return statuses;
+    }
+
+    // max load level at which the scenario of each equipment id converges, null if none
+    private static Map<String, Double> getMargins(Map<ScenarioKey, Status> statuses) {
+        Map<String, Double> margins = new HashMap<>();
+        statuses.forEach((scenarioKey, status) -> {
+            Double margin = margins.get(scenarioKey.equipmentId());
+            boolean isMargin = status == Status.CONVERGENCE && (margin == null || scenarioKey.loadLevel() > margin);
+            margins.put(scenarioKey.equipmentId(), isMargin ? Double.valueOf(scenarioKey.loadLevel()) : margin);
+        });
+        return margins;
+    }
+
+    private static Set<String> getFailingEquipmentIds(Map<ScenarioKey, Status> statuses) {
+        Set<String> equipmentIds = new HashSet<>();
+        statuses.forEach((scenarioKey, status) -> {
+            if (status != null && status != Status.CONVERGENCE) {
+                equipmentIds.add(scenarioKey.equipmentId());
+            }
+        });
+        return equipmentIds;
+    }
+
+    private static boolean matchesLoadLevel(double loadLevel, ScenarioResultFilter filter) {
+        return (filter.getMinLoadLevel() == null || loadLevel >= filter.getMinLoadLevel())
+                && (filter.getMaxLoadLevel() == null || loadLevel <= filter.getMaxLoadLevel());
+    }
+
+    private static boolean matches(ScenarioResult scenarioResult, ScenarioResultFilter filter) {
+        return (CollectionUtils.isEmpty(filter.getStatuses()) || filter.getStatuses().contains(scenarioResult.status()))
+                && (StringUtils.isEmpty(filter.getEquipmentIdPrefix()) || StringUtils.startsWith(scenarioResult.id(), filter.getEquipmentIdPrefix()))
+                && (StringUtils.isEmpty(filter.getFailedCriterion()) || scenarioResult.failedCriteria().stream()
+                        .anyMatch(failedCriterion -> StringUtils.containsIgnoreCase(failedCriterion.description(), filter.getFailedCriterion())));
+    }
+
+    private MarginCalculationResult toDto(MarginCalculationResultEntity resultEntity) {
+        if (resultEntity.getResultLocation() == null) {
+            return resultEntity.toDto();
+        }
+        // decode while downloading, the compressed content is never held whole in memory
+        try (InputStream resultStream = resultObjectStorageService.download(resultEntity.getResultLocation())) {
+            return MarginCalculationResultCodec.decode(resultStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read margin calculation result " + resultEntity.getResultUuid(), e);
+        }
     }
 
     @Override
+    @ReadFromReplica
     @Transactional(readOnly = true)
     public String findDebugFileLocation(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
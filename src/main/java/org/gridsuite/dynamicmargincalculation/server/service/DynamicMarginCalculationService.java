@@ -9,6 +9,7 @@ package org.gridsuite.dynamicmargincalculation.server.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.dynawo.margincalculation.MarginCalculation;
 import com.powsybl.network.store.client.NetworkStoreService;
+import org.apache.commons.collections4.CollectionUtils;
 import org.gridsuite.computation.s3.ComputationS3Service;
 import org.gridsuite.computation.service.AbstractComputationService;
 import org.gridsuite.computation.service.NotificationService;
@@ -54,6 +55,16 @@ public class DynamicMarginCalculationService extends AbstractComputationService<
         return resultUuid;
     }
 
+    @Override
+    public void deleteResults(List<UUID> resultUuids) {
+        if (CollectionUtils.isEmpty(resultUuids)) {
+            super.deleteResults(resultUuids);
+        } else {
+            // one set-based deletion for all results instead of one deletion per result
+            resultService.delete(resultUuids);
+        }
+    }
+
     public List<String> getProviders() {
         return List.of(MarginCalculation.getRunner().getName());
     }
@@ -13,7 +13,6 @@ import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.dynamicsimulation.DynamicModelsSupplier;
 import com.powsybl.dynawo.DynawoSimulationParameters;
-import com.powsybl.dynawo.contingency.results.Status;
 import com.powsybl.dynawo.margincalculation.MarginCalculation;
 import com.powsybl.dynawo.margincalculation.MarginCalculationParameters;
 import com.powsybl.dynawo.margincalculation.MarginCalculationRunParameters;
@@ -66,6 +65,8 @@ public class DynamicMarginCalculationWorkerService extends AbstractWorkerService
     private final DynamicSimulationClient dynamicSimulationClient;
     private final DynamicSecurityAnalysisClient dynamicSecurityAnalysisClient;
     private final ParametersService parametersService;
+    private final ResultWriteBehindService resultWriteBehindService;
+    private final ResultStatusEventService statusEventService;
 
     public DynamicMarginCalculationWorkerService(NetworkStoreService networkStoreService,
                                                  NotificationService notificationService,
@@ -78,11 +79,15 @@ public class DynamicMarginCalculationWorkerService extends AbstractWorkerService
                                                  DynamicSimulationClient dynamicSimulationClient,
                                                  DynamicSecurityAnalysisClient dynamicSecurityAnalysisClient,
                                                  ParametersService parametersService,
-                                                 PropertyServerNameProvider propertyServerNameProvider) {
+                                                 PropertyServerNameProvider propertyServerNameProvider,
+                                                 ResultWriteBehindService resultWriteBehindService,
+                                                 ResultStatusEventService statusEventService) {
         super(networkStoreService, notificationService, reportService, dynamicSecurityAnalysisResultService, computationS3Service, executionService, observer, objectMapper, propertyServerNameProvider);
         this.dynamicSimulationClient = Objects.requireNonNull(dynamicSimulationClient);
         this.dynamicSecurityAnalysisClient = Objects.requireNonNull(dynamicSecurityAnalysisClient);
         this.parametersService = Objects.requireNonNull(parametersService);
+        this.resultWriteBehindService = Objects.requireNonNull(resultWriteBehindService);
+        this.statusEventService = Objects.requireNonNull(statusEventService);
     }
 
     /**
@@ -101,17 +106,26 @@ public class DynamicMarginCalculationWorkerService extends AbstractWorkerService
 
     public void updateResult(UUID resultUuid, MarginCalculationResult result) {
         Objects.requireNonNull(resultUuid);
-        DynamicMarginCalculationStatus status = result.getLoadIncreaseResults().stream()
-                .anyMatch(loadIncreaseResult -> loadIncreaseResult.status() == Status.EXECUTION_PROBLEM) ?
-                DynamicMarginCalculationStatus.FAILED :
-                DynamicMarginCalculationStatus.SUCCEED;
-
-        resultService.insertResult(resultUuid, result, status);
+        resultService.insertResult(resultUuid, result, DynamicMarginCalculationResultService.getFinalStatus(result));
     }
 
     @Override
     protected void saveResult(Network network, AbstractResultContext<DynamicMarginCalculationRunContext> resultContext, MarginCalculationResult result) {
-        updateResult(resultContext.getResultUuid(), result);
+        if (resultWriteBehindService.isEnabled()) {
+            // release the worker thread, the result message is sent by the write-behind stage after the commit
+            DynamicMarginCalculationRunContext runContext = resultContext.getRunContext();
+            resultWriteBehindService.submit(new ResultWriteBehindService.PendingResult(resultContext.getResultUuid(),
+                    runContext.getReceiver(), runContext.getUserId(), result));
+        } else {
+            updateResult(resultContext.getResultUuid(), result);
+        }
+    }
+
+    @Override
+    protected void sendResultMessage(AbstractResultContext<DynamicMarginCalculationRunContext> resultContext, MarginCalculationResult result) {
+        if (!resultWriteBehindService.isEnabled()) {
+            super.sendResultMessage(resultContext, result);
+        }
     }
 
     @Override
@@ -167,7 +181,7 @@ public class DynamicMarginCalculationWorkerService extends AbstractWorkerService
 
         // evaluate loads variation list
         List<LoadsVariationInfos> loadsVariationInfosList = parametersInfos.getLoadsVariations();
-        List<LoadsVariation> loadsVariations = parametersService.getLoadsVariations(loadsVariationInfosList, runContext.getNetwork());
+        List<LoadsVariation> loadsVariations = parametersService.getLoadsVariations(loadsVariationInfosList, runContext.getNetwork(), runContext.getReportNode());
 
         // enrich runContext
         runContext.setDynamicModel(dynamicModel);
@@ -218,6 +232,8 @@ public class DynamicMarginCalculationWorkerService extends AbstractWorkerService
             // continue sending report for tracing reason
             super.postRun(resultContext.getRunContext(), rootReporter, null);
         }
+        // failed status, or none when failed before the computation, pushed to the subscribers of every replica
+        statusEventService.signalStatusChanged(resultContext.getResultUuid());
     }
 
     @Bean
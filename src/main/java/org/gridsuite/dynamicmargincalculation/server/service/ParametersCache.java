@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicMarginCalculationParametersInfos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the parameters used by the run submissions, studies reusing the same few parameters.
+ * <p>
+ * The cached parameters are shared and must not be modified by the callers. Entries are evicted after the commit of
+ * any update or deletion made by this replica, which also signals the other replicas to evict theirs. The time to
+ * live bounds the staleness if a signal is lost.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Component
+public class ParametersCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParametersCache.class);
+
+    static final String CACHE_NAME = "dmc.parameters";
+    static final String PARAMETERS_UPDATED_BINDING = "publishParametersUpdated-out-0";
+    public static final String HEADER_PARAMETERS_UUID = "parametersUuid";
+
+    private final StreamBridge streamBridge;
+    private final boolean enabled;
+    private final Cache<UUID, DynamicMarginCalculationParametersInfos> cache;
+    private final Counter databaseQueryCounter;
+
+    public ParametersCache(MeterRegistry meterRegistry,
+                           StreamBridge streamBridge,
+                           @Value("${dynamic-margin-calculation.parameters-cache.enabled:true}") boolean enabled,
+                           @Value("${dynamic-margin-calculation.parameters-cache.max-size:1000}") long maxSize,
+                           @Value("${dynamic-margin-calculation.parameters-cache.ttl:10m}") Duration ttl) {
+        this.streamBridge = streamBridge;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Ratio of the parameters reads served without database query")
+                .register(meterRegistry);
+        this.databaseQueryCounter = Counter.builder("cache.database.queries")
+                .tag("cache", CACHE_NAME)
+                .description("Parameters reads that went to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached parameters or loads them, the exceptions of the loader are not cached.
+     */
+    public DynamicMarginCalculationParametersInfos get(UUID parametersUuid, Function<UUID, DynamicMarginCalculationParametersInfos> loader) {
+        if (!enabled) {
+            databaseQueryCounter.increment();
+            return loader.apply(parametersUuid);
+        }
+        return cache.get(parametersUuid, uuid -> {
+            databaseQueryCounter.increment();
+            return loader.apply(uuid);
+        });
+    }
+
+    public void evict(UUID parametersUuid) {
+        cache.invalidate(parametersUuid);
+    }
+
+    /**
+     * Evicts now and again after the commit of the current transaction, then signals the other replicas.
+     */
+    public void evictAfterCommit(UUID parametersUuid) {
+        cache.invalidate(parametersUuid);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(parametersUuid);
+                    if (status == STATUS_COMMITTED) {
+                        sendParametersUpdatedMessage(parametersUuid);
+                    }
+                }
+            });
+        } else {
+            sendParametersUpdatedMessage(parametersUuid);
+        }
+    }
+
+    private void sendParametersUpdatedMessage(UUID parametersUuid) {
+        try {
+            streamBridge.send(PARAMETERS_UPDATED_BINDING, MessageBuilder.withPayload("")
+                    .setHeader(HEADER_PARAMETERS_UUID, parametersUuid.toString())
+                    .build());
+        } catch (RuntimeException e) {
+            // the other replicas keep their entry until its time to live
+            LOGGER.warn("Failed to signal the update of parameters {} to the other replicas", parametersUuid, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.gridsuite.dynamicmargincalculation.server.service.ParametersCache.HEADER_PARAMETERS_UUID;
+
+/**
+ * Listens to the parameters updates signaled by any replica, each replica having its own anonymous queue.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ParametersNotificationListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParametersNotificationListener.class);
+
+    private final ParametersCache parametersCache;
+
+    public ParametersNotificationListener(ParametersCache parametersCache) {
+        this.parametersCache = parametersCache;
+    }
+
+    @Bean
+    public Consumer<Message<String>> consumeParametersUpdated() {
+        return message -> {
+            Object parametersUuid = message.getHeaders().get(HEADER_PARAMETERS_UUID);
+            if (parametersUuid == null) {
+                return;
+            }
+            LOGGER.debug("Parameters {} changed by a replica", parametersUuid);
+            parametersCache.evict(UUID.fromString(parametersUuid.toString()));
+        };
+    }
+}
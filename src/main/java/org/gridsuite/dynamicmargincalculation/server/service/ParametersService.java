@@ -6,6 +6,8 @@
  */
 package org.gridsuite.dynamicmargincalculation.server.service;
 
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
 import com.powsybl.dynawo.margincalculation.MarginCalculation;
 import com.powsybl.dynawo.margincalculation.MarginCalculationParameters;
 import com.powsybl.dynawo.margincalculation.loadsvariation.LoadsVariation;
@@ -15,6 +17,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.error.ComputationException;
+import org.gridsuite.dynamicmargincalculation.server.config.ReadFromReplica;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicMarginCalculationParametersInfos;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.IdNameInfos;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.LoadsVariationInfos;
@@ -30,12 +33,17 @@ import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.filter.utils.FiltersUtils;
 import org.gridsuite.filter.utils.expertfilter.FieldType;
 import org.gridsuite.filter.utils.expertfilter.OperatorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.gridsuite.computation.error.ComputationBusinessErrorCode.PARAMETERS_NOT_FOUND;
@@ -48,6 +56,8 @@ import static org.gridsuite.dynamicmargincalculation.server.error.DynamicMarginC
 @Service
 public class ParametersService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParametersService.class);
+
     public static final String MSG_PARAMETERS_UUID_NOT_FOUND = "Parameters uuid not found: ";
 
     private final String defaultProvider;
@@ -58,15 +68,19 @@ public class ParametersService {
 
     private final FilterService filterService;
 
+    private final ParametersCache parametersCache;
+
     @Autowired
     public ParametersService(@Value("${dynamic-margin-calculation.default-provider}") String defaultProvider,
                              DynamicMarginCalculationParametersRepository dynamicMarginCalculationParametersRepository,
                              DirectoryClient directoryClient,
-                             FilterService filterService) {
+                             FilterService filterService,
+                             ParametersCache parametersCache) {
         this.defaultProvider = defaultProvider;
         this.dynamicMarginCalculationParametersRepository = dynamicMarginCalculationParametersRepository;
         this.directoryClient = directoryClient;
         this.filterService = filterService;
+        this.parametersCache = parametersCache;
     }
 
     @Transactional(readOnly = true)
@@ -77,12 +91,14 @@ public class ParametersService {
            UUID dynamicMarginCalculationParametersUuid,
            boolean debug) {
 
-        // get parameters from the local database
-        DynamicMarginCalculationParametersInfos dynamicMarginCalculationParametersInfos = doGetParameters(dynamicMarginCalculationParametersUuid, null);
-        // take only active load variations
-        dynamicMarginCalculationParametersInfos.setLoadsVariations(dynamicMarginCalculationParametersInfos.getLoadsVariations()
-            .stream()
-            .filter(LoadsVariationInfos::getActive).toList());
+        // get parameters from the cache or the local database
+        DynamicMarginCalculationParametersInfos cachedParametersInfos = parametersCache.get(dynamicMarginCalculationParametersUuid, this::loadParameters);
+        // take only active load variations, in a copy as the cached parameters are shared
+        DynamicMarginCalculationParametersInfos dynamicMarginCalculationParametersInfos = cachedParametersInfos.toBuilder()
+            .loadsVariations(cachedParametersInfos.getLoadsVariations()
+                .stream()
+                .filter(LoadsVariationInfos::getActive).toList())
+            .build();
 
         // build run context
         DynamicMarginCalculationRunContext runContext = DynamicMarginCalculationRunContext.builder()
@@ -111,16 +127,20 @@ public class ParametersService {
 
     // --- Dynamic security analysis parameters related methods --- //
 
+    @ReadFromReplica
     @Transactional(readOnly = true)
     public DynamicMarginCalculationParametersInfos getParameters(UUID parametersUuid, String userId) {
         return doGetParameters(parametersUuid, userId);
     }
 
-    private DynamicMarginCalculationParametersInfos doGetParameters(UUID parametersUuid, String userId) {
+    private DynamicMarginCalculationParametersInfos loadParameters(UUID parametersUuid) {
         DynamicMarginCalculationParametersEntity entity = dynamicMarginCalculationParametersRepository.findById(parametersUuid)
                 .orElseThrow(() -> new ComputationException(PARAMETERS_NOT_FOUND, MSG_PARAMETERS_UUID_NOT_FOUND + parametersUuid));
+        return entity.toDto(false);
+    }
 
-        DynamicMarginCalculationParametersInfos parameters = entity.toDto(false);
+    private DynamicMarginCalculationParametersInfos doGetParameters(UUID parametersUuid, String userId) {
+        DynamicMarginCalculationParametersInfos parameters = loadParameters(parametersUuid);
 
         // enrich parameters with names of directory elements inside parameters if userId is provided
         if (StringUtils.isNotBlank(userId)) {
@@ -184,12 +204,30 @@ public class ParametersService {
         return doCreateParameters(duplicatedParametersInfos);
     }
 
+    /**
+     * Returns all the parameters in one query, with their loads variations.
+     */
+    @Transactional(readOnly = true)
     public List<DynamicMarginCalculationParametersInfos> getAllParameters() {
-        return dynamicMarginCalculationParametersRepository.findAll().stream()
-                .map(paramsEntity -> paramsEntity.toDto(false))
+        return dynamicMarginCalculationParametersRepository.findAllByOrderById().stream()
+                .map(entity -> entity.toDto(false))
                 .toList();
     }
 
+    /**
+     * Returns a page of parameters in two queries whatever the page size: the ids of the page, then the parameters of
+     * these ids with their loads variations.
+     */
+    @Transactional(readOnly = true)
+    public Page<DynamicMarginCalculationParametersInfos> getAllParameters(Pageable pageable) {
+        Page<UUID> parametersUuids = dynamicMarginCalculationParametersRepository.findAllIds(pageable);
+        Map<UUID, DynamicMarginCalculationParametersEntity> entitiesById = dynamicMarginCalculationParametersRepository.findAllByIdIn(parametersUuids.getContent())
+                .stream()
+                .collect(Collectors.toMap(DynamicMarginCalculationParametersEntity::getId, entity -> entity, (entity1, entity2) -> entity1));
+        // keep the order of the page
+        return parametersUuids.map(uuid -> entitiesById.get(uuid).toDto(false));
+    }
+
     @Transactional
     public void updateParameters(UUID parametersUuid, DynamicMarginCalculationParametersInfos parametersInfos) {
         DynamicMarginCalculationParametersEntity entity = dynamicMarginCalculationParametersRepository.findById(parametersUuid)
@@ -200,14 +238,16 @@ public class ParametersService {
         } else {
             entity.update(parametersInfos);
         }
+        parametersCache.evictAfterCommit(parametersUuid);
     }
 
     @Transactional
     public void deleteParameters(UUID parametersUuid) {
         dynamicMarginCalculationParametersRepository.deleteById(parametersUuid);
+        parametersCache.evictAfterCommit(parametersUuid);
     }
 
-    public List<LoadsVariation> getLoadsVariations(List<LoadsVariationInfos> loadsVariationInfosList, Network network) {
+    public List<LoadsVariation> getLoadsVariations(List<LoadsVariationInfos> loadsVariationInfosList, Network network, ReportNode reportNode) {
         if (CollectionUtils.isEmpty(loadsVariationInfosList)) {
             return Collections.emptyList();
         }
@@ -218,29 +258,59 @@ public class ParametersService {
                 .map(IdNameInfos::getId)
                 .toList();
         List<AbstractFilter> loadFilters = filterService.getFilters(loadFilerUuids);
-        Map<UUID, AbstractFilter> filterByUuidMap = loadFilters.stream().collect(Collectors.toMap(AbstractFilter::getId, filter -> filter));
+        Map<UUID, AbstractFilter> filterByUuidMap = loadFilters.stream().collect(Collectors.toMap(AbstractFilter::getId, filter -> filter, (filter1, filter2) -> filter1, HashMap::new));
         List<String> missingFilterUuids = loadFilerUuids.stream().filter(uuid -> filterByUuidMap.get(uuid) == null).map(Objects::toString).toList();
         if (CollectionUtils.isNotEmpty(missingFilterUuids)) {
             throw new DynamicMarginCalculationException(LOAD_FILTERS_NOT_FOUND, "Some load filters do not exist", Map.of("filterUuids", " [" + String.join(", ", missingFilterUuids) + "]"));
         }
 
-        return loadsVariationInfosList.stream().map(loadsVariationInfos -> {
-            // build as a unique IS_PART_OF expert-filter then evaluate
-            ExpertFilter filter = ExpertFilter.builder()
-                .equipmentType(EquipmentType.LOAD)
-                .rules(FilterUuidExpertRule.builder()
-                    .field(FieldType.ID)
-                    .operator(OperatorType.IS_PART_OF)
-                    .values(loadsVariationInfos.getLoadFilters().stream()
-                        .map(IdNameInfos::getId)
-                        .map(UUID::toString).collect(Collectors.toSet()))
-                    .build())
-                .build();
+        // per-job caches: filter definitions fetched above are reused while evaluating, and loads evaluated
+        // for a given set of filters are reused by every loads variation sharing the same set
+        AtomicInteger filterCacheHits = new AtomicInteger();
+        Map<Set<String>, List<Load>> loadsByFilterUuids = new HashMap<>();
 
-            List<Load> loads = FiltersUtils.getIdentifiables(filter, network, filterService::getFilters).stream()
+        List<LoadsVariation> loadsVariations = loadsVariationInfosList.stream().map(loadsVariationInfos -> {
+            Set<String> filterUuids = loadsVariationInfos.getLoadFilters().stream()
+                .map(IdNameInfos::getId)
+                .map(UUID::toString).collect(Collectors.toSet());
+            List<Load> loads = loadsByFilterUuids.computeIfAbsent(filterUuids, uuids -> {
+                // build as a unique IS_PART_OF expert-filter then evaluate
+                ExpertFilter filter = ExpertFilter.builder()
+                    .equipmentType(EquipmentType.LOAD)
+                    .rules(FilterUuidExpertRule.builder()
+                        .field(FieldType.ID)
+                        .operator(OperatorType.IS_PART_OF)
+                        .values(uuids)
+                        .build())
+                    .build();
+
+                return FiltersUtils.getIdentifiables(filter, network,
+                        filterUuidsToLoad -> getCachedFilters(filterUuidsToLoad, filterByUuidMap, filterCacheHits)).stream()
                     .map(Load.class::cast).toList();
+            });
             return new LoadsVariation(loads, loadsVariationInfos.getVariation());
         }).toList();
+
+        int loadsCacheHits = loadsVariations.size() - loadsByFilterUuids.size();
+        LOGGER.info("Loads variations evaluated: {} filter cache hits, {} loads cache hits for {} loads variations",
+            filterCacheHits.get(), loadsCacheHits, loadsVariations.size());
+        reportNode.newReportNode()
+            .withMessageTemplate("dmc.server.loadsVariationsEvaluated")
+            .withUntypedValue("filterCacheHits", filterCacheHits.get())
+            .withUntypedValue("loadsCacheHits", loadsCacheHits)
+            .withUntypedValue("loadsVariationsCount", loadsVariations.size())
+            .withSeverity(TypedValue.INFO_SEVERITY)
+            .add();
+
+        return loadsVariations;
     }
 
+    private List<AbstractFilter> getCachedFilters(List<UUID> filterUuids, Map<UUID, AbstractFilter> filterByUuidMap, AtomicInteger cacheHits) {
+        List<UUID> notCachedFilterUuids = filterUuids.stream().filter(uuid -> !filterByUuidMap.containsKey(uuid)).toList();
+        if (CollectionUtils.isNotEmpty(notCachedFilterUuids)) {
+            filterService.getFilters(notCachedFilterUuids).forEach(filter -> filterByUuidMap.put(filter.getId(), filter));
+        }
+        cacheHits.addAndGet(filterUuids.size() - notCachedFilterUuids.size());
+        return filterUuids.stream().map(filterByUuidMap::get).filter(Objects::nonNull).toList();
+    }
 }
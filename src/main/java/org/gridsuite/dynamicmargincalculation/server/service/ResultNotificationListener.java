@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
+
+/**
+ * Listens to the result and stopped notifications and to the status changed signals sent by any replica, each replica
+ * having its own anonymous queue. The status cache is evicted and the new status is pushed to the subscribed clients.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultNotificationListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultNotificationListener.class);
+
+    private final ResultStatusCache statusCache;
+    private final ResultStatusEventService statusEventService;
+
+    public ResultNotificationListener(ResultStatusCache statusCache, ResultStatusEventService statusEventService) {
+        this.statusCache = statusCache;
+        this.statusEventService = statusEventService;
+    }
+
+    private void onNotification(Message<String> message) {
+        Object resultUuid = message.getHeaders().get(HEADER_RESULT_UUID);
+        if (resultUuid == null) {
+            return;
+        }
+        LOGGER.debug("Status of result {} changed by a replica", resultUuid);
+        UUID uuid = UUID.fromString(resultUuid.toString());
+        statusCache.evict(uuid);
+        statusEventService.publish(uuid);
+    }
+
+    @Bean
+    public Consumer<Message<String>> consumeResultNotification() {
+        return this::onNotification;
+    }
+
+    @Bean
+    public Consumer<Message<String>> consumeStoppedNotification() {
+        return this::onNotification;
+    }
+
+    @Bean
+    public Consumer<Message<String>> consumeStatusChangedNotification() {
+        return this::onNotification;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps encoded margin calculation results too large for the database in the object storage.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultObjectStorageService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultObjectStorageService.class);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String resultSubpath;
+    private final long offloadThreshold;
+
+    public ResultObjectStorageService(ObjectProvider<S3Client> s3ClientProvider,
+                                      @Value("${spring.cloud.aws.bucket:ws-bucket}") String bucketName,
+                                      @Value("${result-subpath:results}") String resultSubpath,
+                                      @Value("${dynamic-margin-calculation.result.offload-threshold:-1B}") DataSize offloadThreshold) {
+        // s3 client is only available when computation.s3.enabled is true
+        this.s3Client = s3ClientProvider.getIfAvailable();
+        this.bucketName = bucketName;
+        this.resultSubpath = resultSubpath;
+        this.offloadThreshold = offloadThreshold.toBytes();
+    }
+
+    public boolean isOffloadEnabled() {
+        return s3Client != null && offloadThreshold >= 0;
+    }
+
+    public boolean shouldOffload(long resultSize) {
+        return isOffloadEnabled() && resultSize >= offloadThreshold;
+    }
+
+    /**
+     * Uploads the encoded result and returns its key. The object is removed again if the current transaction rolls back,
+     * so that no object is left without a pointer in the database.
+     */
+    public String upload(UUID resultUuid, byte[] resultData) {
+        String key = resultSubpath + "/" + resultUuid;
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentLength((long) resultData.length)
+                .build(), RequestBody.fromBytes(resultData));
+        LOGGER.info("Margin calculation result offloaded to object storage [resultUuid={}, key={}, size={}]", resultUuid, key, resultData.length);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        deleteObjects(List.of(key));
+                    }
+                }
+            });
+        }
+        return key;
+    }
+
+    public InputStream download(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * Deletes the given objects once the current transaction has committed, immediately when there is none.
+     */
+    public void delete(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteObjects(keys);
+                }
+            });
+        } else {
+            deleteObjects(keys);
+        }
+    }
+
+    private void deleteObjects(List<String> keys) {
+        if (s3Client == null) {
+            LOGGER.warn("Object storage disabled, {} result objects can not be deleted", keys.size());
+            return;
+        }
+        for (String key : keys) {
+            try {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build());
+            } catch (RuntimeException e) {
+                // the database row is already gone, an orphan object only costs storage
+                LOGGER.warn("Failed to delete result object {} from object storage", key, e);
+            }
+        }
+    }
+}
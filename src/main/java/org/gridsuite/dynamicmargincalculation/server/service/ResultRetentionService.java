@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background purge of the results not modified for longer than the retention period, running computations excepted.
+ * <p>
+ * Expired results are deleted by small set-based batches with a pause in between, to leave the database to the
+ * computations. The scheduled purge runs on its own thread, so that these pauses do not hold the scheduler thread shared
+ * with the other periodic tasks, and is skipped while the previous one is still running. Replicas may purge
+ * concurrently, the deletions being idempotent.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultRetentionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultRetentionService.class);
+
+    private final DynamicMarginCalculationStatusRepository statusRepository;
+    private final DynamicMarginCalculationResultService resultService;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Counter purgedResultsCounter;
+    private final Timer purgeTimer;
+    private final ExecutorService purgeExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("dmc-retention-purge-"));
+    private final AtomicBoolean purging = new AtomicBoolean();
+
+    public ResultRetentionService(DynamicMarginCalculationStatusRepository statusRepository,
+                                  DynamicMarginCalculationResultService resultService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${dynamic-margin-calculation.retention.enabled:false}") boolean enabled,
+                                  @Value("${dynamic-margin-calculation.retention.max-age:30d}") Duration maxAge,
+                                  @Value("${dynamic-margin-calculation.retention.batch-size:100}") int batchSize,
+                                  @Value("${dynamic-margin-calculation.retention.batch-pause:1s}") Duration batchPause) {
+        this.statusRepository = statusRepository;
+        this.resultService = resultService;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.purgedResultsCounter = Counter.builder("dmc.retention.purged.results")
+                .description("Results deleted by the retention purge")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("dmc.retention.purge.duration")
+                .description("Duration of a retention purge run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${dynamic-margin-calculation.retention.cron:0 0 2 * * *}")
+    public void scheduledPurge() {
+        if (enabled && purging.compareAndSet(false, true)) {
+            purgeExecutor.execute(() -> {
+                try {
+                    purge();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Retention purge failed", e);
+                } finally {
+                    purging.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // interrupts the pause of a running purge
+        purgeExecutor.shutdownNow();
+    }
+
+    /**
+     * Deletes the expired results.
+     *
+     * @return the number of deleted results
+     */
+    public int purge() {
+        return purgeTimer.record(() -> {
+            Instant before = Instant.now().minus(maxAge);
+            int purgedCount = 0;
+            List<UUID> expiredResultUuids;
+            do {
+                expiredResultUuids = statusRepository.findExpiredResultUuids(before, DynamicMarginCalculationStatus.RUNNING, Limit.of(batchSize));
+                if (!expiredResultUuids.isEmpty()) {
+                    resultService.delete(expiredResultUuids);
+                    purgedResultsCounter.increment(expiredResultUuids.size());
+                    purgedCount += expiredResultUuids.size();
+                    if (expiredResultUuids.size() == batchSize && !pause()) {
+                        break;
+                    }
+                }
+            } while (expiredResultUuids.size() == batchSize);
+            LOGGER.info("Retention purge deleted {} results not modified since {}", purgedCount, before);
+            return purgedCount;
+        });
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Retention purge interrupted");
+            return false;
+        }
+    }
+}
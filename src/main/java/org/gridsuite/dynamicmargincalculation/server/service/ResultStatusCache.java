@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the result statuses, absorbing the polling of the front-ends.
+ * <p>
+ * Entries are evicted after the commit of any change made by this replica, and on the result and stopped
+ * notifications for changes made by other replicas. The time to live bounds the staleness of the remaining cases.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Component
+public class ResultStatusCache {
+
+    static final String CACHE_NAME = "dmc.status";
+
+    private final boolean enabled;
+    private final Cache<UUID, DynamicMarginCalculationStatus> cache;
+    private final Counter databaseQueryCounter;
+
+    public ResultStatusCache(MeterRegistry meterRegistry,
+                             @Value("${dynamic-margin-calculation.status-cache.enabled:true}") boolean enabled,
+                             @Value("${dynamic-margin-calculation.status-cache.max-size:10000}") long maxSize,
+                             @Value("${dynamic-margin-calculation.status-cache.ttl:5s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions... tagged with cache=dmc.status
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Ratio of the status reads served without database query")
+                .register(meterRegistry);
+        this.databaseQueryCounter = Counter.builder("cache.database.queries")
+                .tag("cache", CACHE_NAME)
+                .description("Status reads that went to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached status or loads it, a null status is never cached.
+     */
+    public DynamicMarginCalculationStatus get(UUID resultUuid, Function<UUID, DynamicMarginCalculationStatus> loader) {
+        if (!enabled) {
+            databaseQueryCounter.increment();
+            return loader.apply(resultUuid);
+        }
+        return cache.get(resultUuid, uuid -> {
+            databaseQueryCounter.increment();
+            return loader.apply(uuid);
+        });
+    }
+
+    /**
+     * Returns the cached statuses and loads the missing ones with a single call of the loader, the result uuids
+     * without status are absent from the returned map.
+     */
+    public Map<UUID, DynamicMarginCalculationStatus> getAll(Collection<UUID> resultUuids,
+                                                            Function<Set<UUID>, Map<UUID, DynamicMarginCalculationStatus>> loader) {
+        if (!enabled) {
+            databaseQueryCounter.increment();
+            return loader.apply(Set.copyOf(resultUuids));
+        }
+        return cache.getAll(resultUuids, uuids -> {
+            databaseQueryCounter.increment();
+            return loader.apply(Set.copyOf(uuids));
+        });
+    }
+
+    public void evict(UUID resultUuid) {
+        cache.invalidate(resultUuid);
+    }
+
+    /**
+     * Evicts now and again after the commit of the current transaction, so that a read racing with the change does not
+     * keep the old status in the cache.
+     */
+    public void evictAfterCommit(Collection<UUID> resultUuids) {
+        List<UUID> evictedResultUuids = List.copyOf(resultUuids);
+        cache.invalidateAll(evictedResultUuids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(evictedResultUuids);
+                }
+            });
+        }
+    }
+
+    public void evictAllAfterCommit() {
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.ResultStatusInfos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
+
+/**
+ * Pushes the status transitions of the results to the subscribed clients over Server-Sent Events, instead of being
+ * polled.
+ * <p>
+ * An idle subscriber only holds an asynchronous request and its emitter, no thread. The transitions are driven by the
+ * result and stopped notifications received by every replica, and by the status changed signal sent when a run fails,
+ * the status being read once per notification whatever the number of subscribers. Each subscriber first receives the current statuses, so that a client reconnecting after
+ * a timeout does not miss a transition.
+ * <p>
+ * The events of a subscriber are queued and sent in order by a bounded pool, one subscriber at a time per thread, so
+ * that a slow client only delays its own events. A client whose events pile up is dropped, it reconnects and gets the
+ * current statuses again. The heartbeats are queued by their own thread, never blocked by a client.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultStatusEventService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultStatusEventService.class);
+
+    static final String STATUS_EVENT_NAME = "status";
+    static final String STATUS_CHANGED_BINDING = "publishStatusChanged-out-0";
+    // comment lines keep the idle connections open through the proxies and detect the closed ones
+    private static final Supplier<SseEmitter.SseEventBuilder> HEARTBEAT = () -> SseEmitter.event().comment("heartbeat");
+
+    private final DynamicMarginCalculationResultService resultService;
+    private final StreamBridge streamBridge;
+    private final long timeout;
+    private final int maxPendingEvents;
+    // subscribers by result uuid, a subscriber to many results is in many sets
+    private final Map<UUID, Set<Subscriber>> subscribersByResultUuid = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public ResultStatusEventService(DynamicMarginCalculationResultService resultService,
+                                    StreamBridge streamBridge,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${dynamic-margin-calculation.status-events.timeout:30m}") Duration timeout,
+                                    @Value("${dynamic-margin-calculation.status-events.heartbeat-interval:PT30S}") Duration heartbeatInterval,
+                                    @Value("${dynamic-margin-calculation.status-events.pool-size:4}") int poolSize,
+                                    @Value("${dynamic-margin-calculation.status-events.max-pending-events:32}") int maxPendingEvents) {
+        this.resultService = resultService;
+        this.streamBridge = streamBridge;
+        this.timeout = timeout.toMillis();
+        this.maxPendingEvents = maxPendingEvents;
+        // the notification consumers are not blocked by slow clients
+        this.executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("dmc-status-events-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("dmc-status-events-heartbeat-"));
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("dmc.status.events.subscribers", subscribers, Set::size)
+                .description("Clients subscribed to the status transitions")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Collection<UUID> resultUuids) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout), Set.copyOf(resultUuids));
+        subscriber.emitter.onCompletion(subscriber::ended);
+        subscriber.emitter.onTimeout(subscriber::ended);
+        subscriber.emitter.onError(throwable -> subscriber.ended());
+
+        subscribers.add(subscriber);
+        subscriber.resultUuids.forEach(resultUuid -> subscribersByResultUuid.compute(resultUuid, (uuid, resultSubscribers) -> {
+            Set<Subscriber> updatedSubscribers = resultSubscribers != null ? resultSubscribers : ConcurrentHashMap.newKeySet();
+            updatedSubscribers.add(subscriber);
+            return updatedSubscribers;
+        }));
+
+        // current statuses, queued before any transition and buffered by the emitter until the response is ready
+        Map<UUID, DynamicMarginCalculationStatus> statuses = resultService.findStatuses(subscriber.resultUuids);
+        subscriber.resultUuids.forEach(resultUuid -> subscriber.enqueue(statusEvent(new ResultStatusInfos(resultUuid, statuses.get(resultUuid)))));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Sends the current status of the result to its subscribers, if any.
+     */
+    public void publish(UUID resultUuid) {
+        if (!subscribersByResultUuid.containsKey(resultUuid)) {
+            return;
+        }
+        execute(() -> {
+            Set<Subscriber> resultSubscribers = subscribersByResultUuid.get(resultUuid);
+            if (resultSubscribers == null || resultSubscribers.isEmpty()) {
+                return;
+            }
+            Supplier<SseEmitter.SseEventBuilder> event = statusEvent(new ResultStatusInfos(resultUuid, resultService.findStatus(resultUuid)));
+            resultSubscribers.forEach(subscriber -> subscriber.enqueue(event));
+        });
+    }
+
+    /**
+     * Signals a committed status change without result or stopped notification, e.g. a failed run, to every replica,
+     * this one included, which push the status to their subscribers.
+     */
+    public void signalStatusChanged(UUID resultUuid) {
+        try {
+            streamBridge.send(STATUS_CHANGED_BINDING, MessageBuilder.withPayload("")
+                    .setHeader(HEADER_RESULT_UUID, resultUuid.toString())
+                    .build());
+        } catch (RuntimeException e) {
+            // the subscribers get the status when they reconnect
+            LOGGER.warn("Failed to signal the status change of result {} to the replicas", resultUuid, e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        executor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // an event builder can only be sent once, one is built per subscriber
+    private static Supplier<SseEmitter.SseEventBuilder> statusEvent(ResultStatusInfos statusInfos) {
+        return () -> SseEmitter.event()
+                .name(STATUS_EVENT_NAME)
+                .data(statusInfos, MediaType.APPLICATION_JSON);
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Status events stopped, event not sent", e);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.resultUuids.forEach(resultUuid -> subscribersByResultUuid.computeIfPresent(resultUuid, (uuid, resultSubscribers) -> {
+            resultSubscribers.remove(subscriber);
+            return resultSubscribers.isEmpty() ? null : resultSubscribers;
+        }));
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<UUID> resultUuids;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> pendingEvents = new ConcurrentLinkedQueue<>();
+        // events queued and not sent yet, the sending task running while positive
+        private final AtomicInteger pendingEventCount = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<UUID> resultUuids) {
+            this.emitter = emitter;
+            this.resultUuids = resultUuids;
+        }
+
+        // never blocks, whatever the state of the client
+        private void enqueue(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (closed.get()) {
+                return;
+            }
+            pendingEvents.add(event);
+            int count = pendingEventCount.incrementAndGet();
+            if (count > maxPendingEvents) {
+                LOGGER.debug("Status events subscriber dropped, {} events not sent", count);
+                close();
+            }
+            if (count == 1) {
+                execute(this::sendPendingEvents);
+            }
+        }
+
+        private void sendPendingEvents() {
+            do {
+                Supplier<SseEmitter.SseEventBuilder> event = pendingEvents.poll();
+                if (!closed.get()) {
+                    try {
+                        emitter.send(event.get());
+                    } catch (IOException | IllegalStateException e) {
+                        LOGGER.debug("Status event not sent, subscriber gone", e);
+                        close();
+                    }
+                }
+            } while (pendingEventCount.decrementAndGet() > 0);
+            if (closed.get() && completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unsubscribe(this);
+            }
+        }
+
+        // completed, timed out or failed on the container side
+        private void ended() {
+            completed.set(true);
+            close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One-off job saving the summaries of the results saved before them, so that reading a summary never writes.
+ * <p>
+ * Runs once at startup on its own thread, each summary in its own transaction. Nothing is left to do once every
+ * result has its summary. Replicas may backfill concurrently, a summary saved meanwhile by another one being skipped.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultSummaryBackfillService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSummaryBackfillService.class);
+
+    private final DynamicMarginCalculationResultService resultService;
+    private final boolean enabled;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("dmc-summary-backfill-"));
+
+    public ResultSummaryBackfillService(DynamicMarginCalculationResultService resultService,
+                                        @Value("${dynamic-margin-calculation.result.summary-backfill.enabled:true}") boolean enabled) {
+        this.resultService = resultService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (enabled) {
+            executor.execute(this::backfill);
+        }
+        // the thread ends with the job
+        executor.shutdown();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Saves the missing summaries.
+     *
+     * @return the number of saved summaries
+     */
+    public int backfill() {
+        List<UUID> resultUuids = resultService.findResultUuidsWithoutSummary();
+        if (resultUuids.isEmpty()) {
+            return 0;
+        }
+        LOGGER.info("Backfilling the summaries of {} margin calculation results", resultUuids.size());
+        int savedCount = 0;
+        for (UUID resultUuid : resultUuids) {
+            if (Thread.currentThread().isInterrupted()) {
+                // shutting down, the remaining summaries are saved at the next startup
+                break;
+            }
+            try {
+                if (resultService.insertResultSummary(resultUuid)) {
+                    savedCount++;
+                }
+            } catch (RuntimeException e) {
+                // e.g. saved meanwhile by another replica, or result deleted while being read
+                LOGGER.warn("Failed to backfill the summary of margin calculation result (resultUuid='{}')", resultUuid, e);
+            }
+        }
+        LOGGER.info("Backfilled the summaries of {} margin calculation results", savedCount);
+        return savedCount;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind stage persisting finished results on a dedicated executor, so that the worker thread can take the next
+ * run as soon as the computation ends.
+ * <p>
+ * The executor queue is bounded: when it is full the worker thread persists the result itself, which throttles the
+ * consumption of runs to the database throughput. The final status is committed with the result and the result
+ * message is sent only after this commit. When a spool directory is configured, each pending result is first written
+ * there and replayed at the next startup if the process stopped before persisting it.
+ * <p>
+ * A result failing to persist because of a transient database error is retried with an exponential backoff. Once the
+ * attempts are exhausted, or on any other error, the run is set FAILED, its status change is signaled to the status
+ * event subscribers and the failed message is sent. The spool file is only deleted once the outcome is committed.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@Service
+public class ResultWriteBehindService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultWriteBehindService.class);
+
+    static final String SPOOL_FILE_SUFFIX = ".result";
+    private static final String SPOOL_TMP_FILE_SUFFIX = ".tmp";
+
+    public record PendingResult(UUID resultUuid, String receiver, String userId, MarginCalculationResult result) { }
+
+    private final DynamicMarginCalculationResultService resultService;
+    private final NotificationService notificationService;
+    private final ResultStatusEventService statusEventService;
+    private final boolean enabled;
+    private final Path spoolDir;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final ThreadPoolExecutor executor;
+
+    public ResultWriteBehindService(DynamicMarginCalculationResultService resultService,
+                                    NotificationService notificationService,
+                                    ResultStatusEventService statusEventService,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.pool-size:2}") int poolSize,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.queue-capacity:4}") int queueCapacity,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.spool-dir:}") String spoolDir,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.max-attempts:5}") int maxAttempts,
+                                    @Value("${dynamic-margin-calculation.result.write-behind.retry-backoff:1s}") Duration retryBackoff) {
+        this.resultService = resultService;
+        this.notificationService = notificationService;
+        this.statusEventService = statusEventService;
+        this.enabled = enabled;
+        this.spoolDir = StringUtils.isNotBlank(spoolDir) ? Path.of(spoolDir) : null;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoff = retryBackoff;
+        this.executor = enabled ? new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("dmc-result-writer-"),
+                // backpressure: the submitting worker thread persists the result when the queue is full
+                new ThreadPoolExecutor.CallerRunsPolicy()) : null;
+        if (enabled && this.spoolDir == null) {
+            LOGGER.warn("Result write-behind enabled without spool directory, pending results are lost on shutdown");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hands over a finished result, blocking the caller only while the persistence queue is full.
+     */
+    public void submit(PendingResult pendingResult) {
+        Path spoolFile = spool(pendingResult);
+        executor.execute(() -> persist(pendingResult, spoolFile));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        if (!enabled || spoolDir == null || !Files.isDirectory(spoolDir)) {
+            return;
+        }
+        List<Path> spoolFiles;
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            spoolFiles = files.filter(file -> file.getFileName().toString().endsWith(SPOOL_FILE_SUFFIX)).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list spooled results in " + spoolDir, e);
+        }
+        if (!spoolFiles.isEmpty()) {
+            LOGGER.info("Replaying {} spooled margin calculation results", spoolFiles.size());
+        }
+        for (Path spoolFile : spoolFiles) {
+            PendingResult pendingResult;
+            try {
+                pendingResult = readSpoolFile(spoolFile);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Unreadable spooled result {}, skipped", spoolFile, e);
+                continue;
+            }
+            DynamicMarginCalculationStatus status = resultService.findStatus(pendingResult.resultUuid());
+            if (status == DynamicMarginCalculationStatus.RUNNING) {
+                executor.execute(() -> persist(pendingResult, spoolFile));
+            } else {
+                // already committed before the stop, only the message may be missing, or result deleted meanwhile
+                if (status != null) {
+                    notificationService.sendResultMessage(pendingResult.resultUuid(), pendingResult.receiver(), pendingResult.userId(), null);
+                }
+                deleteSpoolFile(spoolFile);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            LOGGER.warn("Result write-behind stopped with {} pending results", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    private void persist(PendingResult pendingResult, Path spoolFile) {
+        UUID resultUuid = pendingResult.resultUuid();
+        Duration backoff = retryBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // status and result are committed together, the message is only sent once they are visible
+                resultService.insertResult(resultUuid, pendingResult.result(), DynamicMarginCalculationResultService.getFinalStatus(pendingResult.result()));
+                break;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= maxAttempts) {
+                    fail(pendingResult, spoolFile, e);
+                    return;
+                }
+                LOGGER.warn("Failed to persist margin calculation result (resultUuid='{}', attempt {}/{}), retrying in {}",
+                        resultUuid, attempt, maxAttempts, backoff, e);
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                // shutting down, the spool file is replayed at the next startup
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = backoff.multipliedBy(2);
+        }
+        try {
+            notificationService.sendResultMessage(resultUuid, pendingResult.receiver(), pendingResult.userId(), null);
+        } catch (RuntimeException e) {
+            // committed, the replay at the next startup only sends the message
+            LOGGER.error("Failed to send margin calculation result message (resultUuid='{}')", resultUuid, e);
+            return;
+        }
+        deleteSpoolFile(spoolFile);
+        LOGGER.info("Margin calculation result persisted (resultUuid='{}')", resultUuid);
+    }
+
+    private void fail(PendingResult pendingResult, Path spoolFile, RuntimeException cause) {
+        UUID resultUuid = pendingResult.resultUuid();
+        try {
+            if (resultService.findStatus(resultUuid) == null) {
+                // run stopped meanwhile and status already deleted, nothing left to report
+                LOGGER.info("Margin calculation result dropped, status deleted (resultUuid='{}')", resultUuid);
+                deleteSpoolFile(spoolFile);
+                return;
+            }
+            resultService.updateStatus(resultUuid, DynamicMarginCalculationStatus.FAILED);
+        } catch (RuntimeException e) {
+            // still RUNNING in the database, the spool file is persisted again at the next startup
+            cause.addSuppressed(e);
+            LOGGER.error("Failed to persist margin calculation result (resultUuid='{}'), kept for replay", resultUuid, cause);
+            return;
+        }
+        LOGGER.error("Failed to persist margin calculation result (resultUuid='{}'), run set failed", resultUuid, cause);
+        deleteSpoolFile(spoolFile);
+        statusEventService.signalStatusChanged(resultUuid);
+        notificationService.publishFail(resultUuid, pendingResult.receiver(), cause.getMessage(), pendingResult.userId(),
+                DynamicMarginCalculationService.COMPUTATION_TYPE, null);
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    Path spool(PendingResult pendingResult) {
+        if (spoolDir == null) {
+            return null;
+        }
+        Path spoolFile = spoolDir.resolve(pendingResult.resultUuid() + SPOOL_FILE_SUFFIX);
+        Path tmpFile = spoolDir.resolve(pendingResult.resultUuid() + SPOOL_TMP_FILE_SUFFIX);
+        try {
+            Files.createDirectories(spoolDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeLong(pendingResult.resultUuid().getMostSignificantBits());
+                out.writeLong(pendingResult.resultUuid().getLeastSignificantBits());
+                writeNullableString(out, pendingResult.receiver());
+                writeNullableString(out, pendingResult.userId());
+                out.write(MarginCalculationResultCodec.encode(pendingResult.result()));
+            }
+            // a spool file is either complete or absent
+            Files.move(tmpFile, spoolFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return spoolFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spool margin calculation result " + pendingResult.resultUuid(), e);
+        }
+    }
+
+    private static PendingResult readSpoolFile(Path spoolFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spoolFile)))) {
+            UUID resultUuid = new UUID(in.readLong(), in.readLong());
+            String receiver = readNullableString(in);
+            String userId = readNullableString(in);
+            return new PendingResult(resultUuid, receiver, userId, MarginCalculationResultCodec.decode(in));
+        }
+    }
+
+    private static void deleteSpoolFile(Path spoolFile) {
+        if (spoolFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete spooled result {}", spoolFile, e);
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -7,8 +7,10 @@
 
 package org.gridsuite.dynamicmargincalculation.server.service;
 
+import org.gridsuite.dynamicmargincalculation.server.config.ReadFromReplica;
 import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -21,6 +23,8 @@ public class SupervisionService {
         this.statusRepository = statusRepository;
     }
 
+    @ReadFromReplica
+    @Transactional(readOnly = true)
     public Integer getResultsCount() {
         return (int) statusRepository.count();
     }
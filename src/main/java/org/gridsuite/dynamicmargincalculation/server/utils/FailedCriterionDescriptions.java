@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Ids and interning of the failed criterion descriptions, a result repeating a few dozen distinct texts many times.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class FailedCriterionDescriptions {
+
+    public record Description(UUID id, String text) { }
+
+    // bounded, descriptions being generated by the criteria of the simulations
+    private static final Cache<String, Description> DESCRIPTIONS = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    private FailedCriterionDescriptions() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Returns the shared instance of the given description with its id, null for a null description.
+     */
+    public static Description intern(String text) {
+        return text != null ? DESCRIPTIONS.get(text, t -> new Description(idOf(t), t)) : null;
+    }
+
+    /**
+     * Id derived from the MD5 digest of the UTF-8 text, same as <code>md5(description)::uuid</code> in PostgreSQL
+     * so that existing rows can be migrated in SQL.
+     */
+    public static UUID idOf(String text) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(text.getBytes(StandardCharsets.UTF_8)));
+            return new UUID(digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
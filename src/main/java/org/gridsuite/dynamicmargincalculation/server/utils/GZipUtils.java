@@ -60,4 +60,18 @@ public final class GZipUtils {
             throw new UncheckedIOException("Failed to decompress string", e);
         }
     }
+
+    /**
+     * Compresses bytes using GZIP.
+     */
+    public static byte[] compress(byte[] bytes) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress bytes", e);
+        }
+    }
 }
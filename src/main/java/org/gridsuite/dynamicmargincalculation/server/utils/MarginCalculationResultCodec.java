@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.utils;
+
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compact binary form of a whole {@link MarginCalculationResult} : one format version byte followed by
+ * the GZIP compressed content.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class MarginCalculationResultCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    // gzip header and trailer, then the header of each deflate block stored as is when not compressible
+    private static final int GZIP_OVERHEAD = 18;
+    private static final int DEFLATE_STORED_BLOCK_OVERHEAD = 5;
+    private static final int DEFLATE_STORED_BLOCK_SIZE = 65535;
+
+    private MarginCalculationResultCodec() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static byte[] encode(MarginCalculationResult result) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
+             DataOutputStream data = new DataOutputStream(out)) {
+            List<LoadIncreaseResult> loadIncreaseResults = result.getLoadIncreaseResults();
+            data.writeInt(loadIncreaseResults.size());
+            for (LoadIncreaseResult loadIncreaseResult : loadIncreaseResults) {
+                data.writeDouble(loadIncreaseResult.loadLevel());
+                writeStatus(data, loadIncreaseResult.status());
+                data.writeInt(loadIncreaseResult.scenarioResults().size());
+                for (ScenarioResult scenarioResult : loadIncreaseResult.scenarioResults()) {
+                    writeString(data, scenarioResult.id());
+                    writeStatus(data, scenarioResult.status());
+                    writeFailedCriteria(data, scenarioResult.failedCriteria());
+                }
+                writeFailedCriteria(data, loadIncreaseResult.failedCriteria());
+            }
+            data.flush();
+
+            byte[] compressed = GZipUtils.compress(out.toByteArray());
+            byte[] encoded = new byte[compressed.length + 1];
+            encoded[0] = FORMAT_VERSION;
+            System.arraycopy(compressed, 0, encoded, 1, compressed.length);
+            return encoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode margin calculation result", e);
+        }
+    }
+
+    /**
+     * Upper bound of the size of the encoded result, computed from the row counts and the string lengths without
+     * encoding anything, to tell whether a result may need to be offloaded before paying for the compression.
+     */
+    public static long maxEncodedSize(MarginCalculationResult result) {
+        long size = Integer.BYTES;
+        for (LoadIncreaseResult loadIncreaseResult : result.getLoadIncreaseResults()) {
+            size += Double.BYTES + statusSize(loadIncreaseResult.status()) + Integer.BYTES;
+            for (ScenarioResult scenarioResult : loadIncreaseResult.scenarioResults()) {
+                size += stringSize(scenarioResult.id()) + statusSize(scenarioResult.status())
+                        + failedCriteriaSize(scenarioResult.failedCriteria());
+            }
+            size += failedCriteriaSize(loadIncreaseResult.failedCriteria());
+        }
+        long storedBlocks = size / DEFLATE_STORED_BLOCK_SIZE + 1;
+        return 1 + GZIP_OVERHEAD + size + storedBlocks * DEFLATE_STORED_BLOCK_OVERHEAD;
+    }
+
+    public static MarginCalculationResult decode(byte[] encoded) {
+        return decode(new ByteArrayInputStream(encoded));
+    }
+
+    /**
+     * Decodes while reading the given stream, without buffering the compressed content.
+     */
+    public static MarginCalculationResult decode(InputStream in) {
+        try {
+            int formatVersion = in.read();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported margin calculation result format version: " + formatVersion);
+            }
+            try (DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)))) {
+                int loadIncreaseResultCount = data.readInt();
+                List<LoadIncreaseResult> loadIncreaseResults = new ArrayList<>(loadIncreaseResultCount);
+                for (int i = 0; i < loadIncreaseResultCount; i++) {
+                    double loadLevel = data.readDouble();
+                    Status status = readStatus(data);
+                    int scenarioResultCount = data.readInt();
+                    List<ScenarioResult> scenarioResults = new ArrayList<>(scenarioResultCount);
+                    for (int j = 0; j < scenarioResultCount; j++) {
+                        String id = readString(data);
+                        Status scenarioStatus = readStatus(data);
+                        scenarioResults.add(new ScenarioResult(id, scenarioStatus, readFailedCriteria(data)));
+                    }
+                    loadIncreaseResults.add(new LoadIncreaseResult(loadLevel, status, scenarioResults, readFailedCriteria(data)));
+                }
+                return new MarginCalculationResult(loadIncreaseResults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode margin calculation result", e);
+        }
+    }
+
+    private static void writeFailedCriteria(DataOutputStream data, List<FailedCriterion> failedCriteria) throws IOException {
+        data.writeInt(failedCriteria.size());
+        for (FailedCriterion failedCriterion : failedCriteria) {
+            writeString(data, failedCriterion.description());
+            data.writeDouble(failedCriterion.time());
+        }
+    }
+
+    private static long failedCriteriaSize(List<FailedCriterion> failedCriteria) {
+        long size = Integer.BYTES;
+        for (FailedCriterion failedCriterion : failedCriteria) {
+            size += stringSize(failedCriterion.description()) + Double.BYTES;
+        }
+        return size;
+    }
+
+    private static List<FailedCriterion> readFailedCriteria(DataInputStream data) throws IOException {
+        int failedCriterionCount = data.readInt();
+        List<FailedCriterion> failedCriteria = new ArrayList<>(failedCriterionCount);
+        for (int i = 0; i < failedCriterionCount; i++) {
+            // one shared instance per distinct description
+            FailedCriterionDescriptions.Description description = FailedCriterionDescriptions.intern(readString(data));
+            failedCriteria.add(new FailedCriterion(description != null ? description.text() : null, data.readDouble()));
+        }
+        return failedCriteria;
+    }
+
+    private static void writeStatus(DataOutputStream data, Status status) throws IOException {
+        writeString(data, status != null ? status.name() : null);
+    }
+
+    private static long statusSize(Status status) {
+        return stringSize(status != null ? status.name() : null);
+    }
+
+    private static Status readStatus(DataInputStream data) throws IOException {
+        String status = readString(data);
+        return status != null ? Status.valueOf(status) : null;
+    }
+
+    private static void writeString(DataOutputStream data, String str) throws IOException {
+        if (str == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static long stringSize(String str) {
+        // at most 3 UTF-8 bytes per char, a surrogate pair taking 4 bytes for 2 chars
+        return Integer.BYTES + (str != null ? 3L * str.length() : 0);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.contingency.results.Status;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultField;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Writes a margin calculation result as JSON piece by piece, so that the result does not need to be held whole in
+ * memory:
+ * <pre>
+ * {"loadIncreaseResults": [{"loadLevel": ..., "status": ..., "failedCriteria": [{"description": ..., "time": ...}],
+ *   "scenarioResults": [{"id": ..., "status": ..., "failedCriteria": [...]}]}]}
+ * </pre>
+ * The scenario results and the failed criteria are omitted when their {@link ResultField} is not requested.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class MarginCalculationResultJsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory SMILE_FACTORY = new SmileFactory();
+    private static final JsonFactory CBOR_FACTORY = new CBORFactory();
+
+    private MarginCalculationResultJsonWriter() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static JsonGenerator createGenerator(OutputStream outputStream) {
+        return createGenerator(outputStream, APPLICATION_JSON_VALUE);
+    }
+
+    /**
+     * Creates a generator writing the same structure in JSON, Smile or CBOR, depending on the given media type.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, String mediaType) {
+        JsonFactory factory = switch (mediaType) {
+            case APPLICATION_SMILE_VALUE -> SMILE_FACTORY;
+            case APPLICATION_CBOR_VALUE -> CBOR_FACTORY;
+            default -> JSON_FACTORY;
+        };
+        try {
+            return factory.createGenerator(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeResult(JsonGenerator generator, MarginCalculationResult result) {
+        writeResult(generator, result, EnumSet.allOf(ResultField.class));
+    }
+
+    public static void writeResult(JsonGenerator generator, MarginCalculationResult result, Set<ResultField> fields) {
+        writeStartResult(generator);
+        for (LoadIncreaseResult loadIncreaseResult : result.getLoadIncreaseResults()) {
+            writeStartLoadIncreaseResult(generator, loadIncreaseResult.loadLevel(), loadIncreaseResult.status(), loadIncreaseResult.failedCriteria(), fields);
+            if (fields.contains(ResultField.SCENARIO_RESULTS)) {
+                loadIncreaseResult.scenarioResults().forEach(scenarioResult -> writeScenarioResult(generator, scenarioResult, fields));
+            }
+            writeEndLoadIncreaseResult(generator, fields);
+        }
+        writeEndResult(generator);
+    }
+
+    public static void writeStartResult(JsonGenerator generator) {
+        try {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("loadIncreaseResults");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeEndResult(JsonGenerator generator) {
+        try {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the fields of a load increase result, then opens its scenario results array if requested.
+     */
+    public static void writeStartLoadIncreaseResult(JsonGenerator generator, double loadLevel, Status status, List<FailedCriterion> failedCriteria,
+                                                    Set<ResultField> fields) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("loadLevel", loadLevel);
+            writeStatus(generator, status);
+            if (fields.contains(ResultField.FAILED_CRITERIA)) {
+                writeFailedCriteria(generator, failedCriteria);
+            }
+            if (fields.contains(ResultField.SCENARIO_RESULTS)) {
+                generator.writeArrayFieldStart("scenarioResults");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeEndLoadIncreaseResult(JsonGenerator generator, Set<ResultField> fields) {
+        try {
+            if (fields.contains(ResultField.SCENARIO_RESULTS)) {
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeScenarioResult(JsonGenerator generator, ScenarioResult scenarioResult, Set<ResultField> fields) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", scenarioResult.id());
+            writeStatus(generator, scenarioResult.status());
+            if (fields.contains(ResultField.FAILED_CRITERIA)) {
+                writeFailedCriteria(generator, scenarioResult.failedCriteria());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeStatus(JsonGenerator generator, Status status) throws IOException {
+        generator.writeStringField("status", status != null ? status.name() : null);
+    }
+
+    private static void writeFailedCriteria(JsonGenerator generator, List<FailedCriterion> failedCriteria) throws IOException {
+        generator.writeArrayFieldStart("failedCriteria");
+        for (FailedCriterion failedCriterion : failedCriteria) {
+            generator.writeStartObject();
+            generator.writeStringField("description", failedCriterion.description());
+            generator.writeNumberField("time", failedCriterion.time());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
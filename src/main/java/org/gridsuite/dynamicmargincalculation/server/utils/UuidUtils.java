@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+public final class UuidUtils {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    // unix epoch millis shifted left by SEQUENCE_BITS, plus a sequence number within the millisecond
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private UuidUtils() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Generates a time-ordered UUID (version 7, RFC 9562) : 48 bits of unix epoch millis, then a 12 bits sequence
+     * within the millisecond and 62 random bits. UUIDs generated by this process are strictly increasing so that
+     * rows inserted together land next to each other in the primary key and foreign key indexes.
+     */
+    public static UUID generateTimeOrderedUuid() {
+        long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last ->
+                Math.max(System.currentTimeMillis() << SEQUENCE_BITS, last + 1));
+
+        long mostSigBits = (timestampAndSequence >>> SEQUENCE_BITS) << 16 // 48 bits timestamp
+                | 0x7000L // version 7
+                | (timestampAndSequence & 0xFFFL); // 12 bits sequence
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL
+                | 0x8000000000000000L; // IETF variant
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.datasource.ResourceDataSource;
 import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.commons.report.ReportNode;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.dynamicsimulation.DynamicSimulationParameters;
 import com.powsybl.dynawo.DynawoSimulationParameters;
@@ -31,6 +32,7 @@ import org.gridsuite.filter.utils.expertfilter.CombinatorType;
 import org.gridsuite.filter.utils.expertfilter.FieldType;
 import org.gridsuite.filter.utils.expertfilter.OperatorType;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.messaging.Message;
@@ -42,8 +44,10 @@ import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.computation.service.AbstractResultContext.REPORTER_ID_HEADER;
 import static org.gridsuite.computation.service.AbstractResultContext.VARIANT_ID_HEADER;
 import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
@@ -51,6 +55,8 @@ import static org.gridsuite.dynamicmargincalculation.server.controller.utils.Tes
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -83,6 +89,7 @@ public class DynamicMarginCalculationControllerIEEE14Test extends AbstractDynami
     private static final UUID DSA_PARAMETERS_UUID = UUID.fromString("2745666a-0abe-4c3a-8b91-a719c1d1f753");
     private static final UUID PARAMETERS_UUID = UUID.fromString("e786c4ca-64e7-4f44-b6a2-8f23b8b4334a");
     private static final UUID FILTER_UUID = UUID.fromString("b234ce92-23f2-422c-b239-ec69abc399bd");
+    private static final UUID REPORT_UUID = UUID.fromString("5a1b6e3c-7d0f-4c8e-9b2a-3f6d8e1c4b7a");
 
     @Autowired
     private OutputDestination output;
@@ -193,6 +200,8 @@ public class DynamicMarginCalculationControllerIEEE14Test extends AbstractDynami
                                 .param("dynamicSimulationParametersUuid", DS_PARAMETERS_UUID.toString())
                                 .param("dynamicSecurityAnalysisParametersUuid", DSA_PARAMETERS_UUID.toString())
                                 .param("parametersUuid", PARAMETERS_UUID.toString())
+                                .param("reportUuid", REPORT_UUID.toString())
+                                .param(REPORTER_ID_HEADER, "dmc")
                                 .contentType(APPLICATION_JSON)
                                 .header(HEADER_USER_ID, "testUserId")
                 )
@@ -207,5 +216,23 @@ public class DynamicMarginCalculationControllerIEEE14Test extends AbstractDynami
 
         // --- CHECK result --- //
         assertResultStatus(runUuid, DynamicMarginCalculationStatus.SUCCEED);
+
+        // load filters are fetched only once per job, evaluation reuses the per-job cache
+        verify(filterClient, times(1)).getFilters(List.of(FILTER_UUID));
+
+        // cache hits reported in the computation report
+        ArgumentCaptor<ReportNode> reportNodeCaptor = ArgumentCaptor.forClass(ReportNode.class);
+        verify(reportService).sendReport(eq(REPORT_UUID), reportNodeCaptor.capture());
+        ReportNode loadsVariationsReportNode = flatten(reportNodeCaptor.getValue())
+                .filter(reportNode -> "dmc.server.loadsVariationsEvaluated".equals(reportNode.getMessageKey()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(loadsVariationsReportNode.getValue("filterCacheHits")).hasValueSatisfying(value -> assertThat(value.getValue()).isEqualTo(1));
+        assertThat(loadsVariationsReportNode.getValue("loadsCacheHits")).hasValueSatisfying(value -> assertThat(value.getValue()).isEqualTo(0));
+        assertThat(loadsVariationsReportNode.getValue("loadsVariationsCount")).hasValueSatisfying(value -> assertThat(value.getValue()).isEqualTo(1));
+    }
+
+    private static Stream<ReportNode> flatten(ReportNode reportNode) {
+        return Stream.concat(Stream.of(reportNode), reportNode.getChildren().stream().flatMap(DynamicMarginCalculationControllerIEEE14Test::flatten));
     }
 }
@@ -26,11 +26,16 @@ import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicMargi
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicSecurityAnalysisParametersValues;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicSimulationParametersValues;
 import org.gridsuite.dynamicmargincalculation.server.entities.parameters.DynamicMarginCalculationParametersEntity;
+import org.gridsuite.dynamicmargincalculation.server.service.DynamicMarginCalculationResultService;
+import org.gridsuite.dynamicmargincalculation.server.service.ResultNotificationListener;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MvcResult;
 import software.amazon.awssdk.core.ResponseInputStream;
@@ -60,12 +65,13 @@ import static org.gridsuite.computation.s3.ComputationS3Service.METADATA_FILE_NA
 import static org.gridsuite.computation.service.AbstractResultContext.REPORTER_ID_HEADER;
 import static org.gridsuite.computation.service.AbstractResultContext.VARIANT_ID_HEADER;
 import static org.gridsuite.computation.service.NotificationService.*;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
 import static org.gridsuite.dynamicmargincalculation.server.controller.utils.TestUtils.RESOURCE_PATH_DELIMITER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
@@ -92,6 +98,12 @@ public class DynamicMarginCalculationControllerTest extends AbstractDynamicMargi
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @Autowired
+    ResultNotificationListener resultNotificationListener;
+
     @MockitoSpyBean
     private NotificationService notificationService;
 
@@ -250,6 +262,144 @@ public class DynamicMarginCalculationControllerTest extends AbstractDynamicMargi
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testGetStatuses() throws Exception {
+        UUID runningResultUuid = UUID.randomUUID();
+        UUID succeedResultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(runningResultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.insertStatus(List.of(succeedResultUuid), DynamicMarginCalculationStatus.SUCCEED);
+
+        mockMvc.perform(post("/v1/results/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(runningResultUuid, succeedResultUuid, UUID.randomUUID()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['" + runningResultUuid + "']").value(DynamicMarginCalculationStatus.RUNNING.name()))
+                .andExpect(jsonPath("$['" + succeedResultUuid + "']").value(DynamicMarginCalculationStatus.SUCCEED.name()));
+    }
+
+    @Test
+    void testStatusEvents() throws Exception {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        MvcResult result = mockMvc.perform(get("/v1/results/status/events").param("resultUuid", resultUuid.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // current status first
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+                .contains("event:status", "\"resultUuid\":\"" + resultUuid + "\"", "\"status\":\"RUNNING\""));
+
+        // then pushed on the result notification
+        dynamicMarginCalculationResultService.updateStatus(resultUuid, DynamicMarginCalculationStatus.SUCCEED);
+        resultNotificationListener.consumeResultNotification().accept(MessageBuilder.withPayload("")
+                .setHeader(HEADER_RESULT_UUID, resultUuid.toString())
+                .build());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+                .contains("\"status\":\"SUCCEED\""));
+    }
+
+    @Test
+    void testStatusEventsFailedRun() throws Exception {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        MvcResult result = mockMvc.perform(get("/v1/results/status/events").param("resultUuid", resultUuid.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+                .contains("\"status\":\"RUNNING\""));
+
+        // a failed run sends no result notification, its status change is signaled instead
+        dynamicMarginCalculationResultService.updateStatus(resultUuid, DynamicMarginCalculationStatus.FAILED);
+        resultNotificationListener.consumeStatusChangedNotification().accept(MessageBuilder.withPayload("")
+                .setHeader(HEADER_RESULT_UUID, resultUuid.toString())
+                .build());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+                .contains("\"status\":\"FAILED\""));
+    }
+
+    @Test
+    void testScenarioResultsSort() throws Exception {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.insertResult(resultUuid, new MarginCalculationResult(List.of(new LoadIncreaseResult(10, CONVERGENCE,
+                List.of(new ScenarioResult("_LOAD__11_EC", CONVERGENCE), new ScenarioResult("_LOAD__12_EC", CRITERIA_NON_RESPECTED)), List.of()))),
+                DynamicMarginCalculationStatus.SUCCEED);
+
+        // property and direction in a single sort parameter
+        mockMvc.perform(get("/v1/results/{resultUuid}/scenario-results", resultUuid).param("sort", "equipmentId,DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].equipmentId").value("_LOAD__12_EC"))
+                .andExpect(jsonPath("$[1].equipmentId").value("_LOAD__11_EC"));
+        mockMvc.perform(get("/v1/results/{resultUuid}/scenario-results", resultUuid).param("sort", "loadLevel", "equipmentId,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].equipmentId").value("_LOAD__12_EC"));
+        mockMvc.perform(get("/v1/results/{resultUuid}/scenario-results", resultUuid).param("sort", "equipmentId"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].equipmentId").value("_LOAD__11_EC"));
+
+        // unknown properties rejected, including a misspelled direction read as a property
+        mockMvc.perform(get("/v1/results/{resultUuid}/scenario-results", resultUuid).param("sort", "unknown,asc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/results/{resultUuid}/scenario-results", resultUuid).param("sort", "equipmentId,sideways"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testResultETag() throws Exception {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        MarginCalculationResult marginCalculationResult = new MarginCalculationResult(List.of(new LoadIncreaseResult(10, CONVERGENCE,
+                List.of(new ScenarioResult("_LOAD__11_EC", CONVERGENCE)), List.of())));
+        dynamicMarginCalculationResultService.insertResult(resultUuid, marginCalculationResult, DynamicMarginCalculationStatus.SUCCEED);
+
+        MvcResult result = mockMvc.perform(get("/v1/results/{resultUuid}", resultUuid))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        // unchanged result, answered from the status table without body
+        mockMvc.perform(get("/v1/results/{resultUuid}", resultUuid).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        // one entity tag per representation
+        result = mockMvc.perform(get("/v1/results/{resultUuid}", resultUuid).accept(APPLICATION_CBOR_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+
+        // one entity tag per selection of fields too
+        result = mockMvc.perform(get("/v1/results/{resultUuid}", resultUuid).param("fields", "SCENARIO_RESULTS").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertThat(result.getResponse().getContentAsString()).contains("scenarioResults").doesNotContain("failedCriteria");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+
+        // the invalidation changes the entity tag
+        mockMvc.perform(put("/v1/results/invalidate-status").param("resultUuid", resultUuid.toString()))
+                .andExpect(status().isOk());
+        result = mockMvc.perform(get("/v1/results/{resultUuid}", resultUuid).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+
+        mockMvc.perform(get("/v1/results/{resultUuid}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testRunWithSynchronousExceptions() throws Exception {
 
@@ -8,6 +8,9 @@ package org.gridsuite.dynamicmargincalculation.server.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApplication;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.DynamicMarginCalculationParametersInfos;
 import org.gridsuite.dynamicmargincalculation.server.dto.parameters.IdNameInfos;
@@ -15,6 +18,8 @@ import org.gridsuite.dynamicmargincalculation.server.dto.parameters.LoadsVariati
 import org.gridsuite.dynamicmargincalculation.server.entities.parameters.DynamicMarginCalculationParametersEntity;
 import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationParametersRepository;
 import org.gridsuite.dynamicmargincalculation.server.service.FilterService;
+import org.gridsuite.dynamicmargincalculation.server.service.ParametersCache;
+import org.gridsuite.dynamicmargincalculation.server.service.ParametersNotificationListener;
 import org.gridsuite.dynamicmargincalculation.server.service.ParametersService;
 import org.gridsuite.dynamicmargincalculation.server.service.client.DirectoryClient;
 import org.junit.jupiter.api.AfterEach;
@@ -22,11 +27,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,9 +45,12 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_SMILE_VALUE;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -44,7 +58,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @AutoConfigureMockMvc
 @SpringBootTest
-@ContextConfiguration(classes = {DynamicMarginCalculationApplication.class})
+@ContextConfiguration(classes = {DynamicMarginCalculationApplication.class, TestChannelBinderConfiguration.class})
 class DynamicMarginCalculationParametersControllerTest {
 
     private static final String USER_ID = "userId";
@@ -63,6 +77,15 @@ class DynamicMarginCalculationParametersControllerTest {
     @Autowired
     DynamicMarginCalculationParametersRepository parametersRepository;
 
+    @Autowired
+    ParametersNotificationListener parametersNotificationListener;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    OutputDestination output;
+
     @MockitoBean
     DirectoryClient directoryClient;
 
@@ -73,6 +96,7 @@ class DynamicMarginCalculationParametersControllerTest {
     void tearDown() {
         parametersRepository.deleteAll();
         reset(directoryClient, filterService);
+        output.clear();
     }
 
     private DynamicMarginCalculationParametersInfos newParametersInfos() {
@@ -188,14 +212,48 @@ class DynamicMarginCalculationParametersControllerTest {
         verify(directoryClient, times(1)).getElementNames(List.of(LOAD_FILTER_UUID_1, LOAD_FILTER_UUID_2), USER_ID);
     }
 
+    @Test
+    void testBinaryMediaTypes() throws Exception {
+        DynamicMarginCalculationParametersInfos parametersInfos = newParametersInfos();
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+
+        // created from a Smile body
+        MvcResult result = mockMvc.perform(post("/v1/parameters")
+                        .contentType(APPLICATION_SMILE_VALUE)
+                        .content(smileMapper.writeValueAsBytes(parametersInfos)))
+                .andExpect(status().isOk())
+                .andReturn();
+        UUID parametersUuid = objectMapper.readValue(result.getResponse().getContentAsString(), UUID.class);
+
+        // read back in CBOR
+        result = mockMvc.perform(get("/v1/parameters/{uuid}", parametersUuid)
+                        .header(HEADER_USER_ID, USER_ID)
+                        .accept(APPLICATION_CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_CBOR_VALUE))
+                .andReturn();
+        DynamicMarginCalculationParametersInfos returned = cborMapper.readValue(result.getResponse().getContentAsByteArray(),
+                DynamicMarginCalculationParametersInfos.class);
+        assertThat(returned).usingRecursiveComparison().ignoringFields("id").isEqualTo(parametersInfos);
+
+        // JSON remains the default
+        mockMvc.perform(get("/v1/parameters/{uuid}", parametersUuid).header(HEADER_USER_ID, USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_JSON));
+    }
+
     @Test
     void testGetAllParameters() throws Exception {
+        // more than a default page
         DynamicMarginCalculationParametersInfos infos = newParametersInfos();
-        parametersRepository.saveAll(List.of(
-                new DynamicMarginCalculationParametersEntity(infos),
-                new DynamicMarginCalculationParametersEntity(infos)
-        ));
+        List<DynamicMarginCalculationParametersEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            entities.add(new DynamicMarginCalculationParametersEntity(infos));
+        }
+        parametersRepository.saveAll(entities);
 
+        // all returned when no page is requested
         MvcResult result = mockMvc.perform(get("/v1/parameters"))
                 .andExpect(status().isOk())
                 .andReturn();
@@ -205,9 +263,93 @@ class DynamicMarginCalculationParametersControllerTest {
                 new TypeReference<>() { }
         );
 
-        assertThat(returned).hasSize(2);
-        assertThat(returned.get(0).getId()).isNotNull();
-        assertThat(returned.get(1).getId()).isNotNull();
+        assertThat(returned).hasSize(101);
+        assertThat(returned).extracting(DynamicMarginCalculationParametersInfos::getId).doesNotContainNull();
+        assertThat(result.getResponse().getHeader(DynamicMarginCalculationParametersController.HEADER_TOTAL_COUNT)).isEqualTo("101");
+
+        // default page size when only the page is given
+        result = mockMvc.perform(get("/v1/parameters").param("page", "0"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<DynamicMarginCalculationParametersInfos>>() { }))
+                .hasSize(100);
+        assertThat(result.getResponse().getHeader(DynamicMarginCalculationParametersController.HEADER_TOTAL_COUNT)).isEqualTo("101");
+    }
+
+    @Test
+    void testGetAllParametersByPages() throws Exception {
+        DynamicMarginCalculationParametersInfos infos = newParametersInfosWithLoadFilters();
+        List<UUID> parametersUuids = parametersRepository.saveAll(List.of(
+                new DynamicMarginCalculationParametersEntity(infos),
+                new DynamicMarginCalculationParametersEntity(infos),
+                new DynamicMarginCalculationParametersEntity(infos)
+        )).stream().map(DynamicMarginCalculationParametersEntity::getId)
+                // database order of uuids, byte-wise unlike UUID.compareTo
+                .sorted(Comparator.comparing(UUID::toString)).toList();
+
+        List<DynamicMarginCalculationParametersInfos> returned = new ArrayList<>();
+        for (int page = 0; page < 2; page++) {
+            MvcResult result = mockMvc.perform(get("/v1/parameters").param("page", String.valueOf(page)).param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(result.getResponse().getHeader(DynamicMarginCalculationParametersController.HEADER_TOTAL_COUNT)).isEqualTo("3");
+            returned.addAll(objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<List<DynamicMarginCalculationParametersInfos>>() { }));
+        }
+
+        // pages ordered by uuid, with the loads variations and their load filters
+        assertThat(returned).extracting(DynamicMarginCalculationParametersInfos::getId).containsExactlyElementsOf(parametersUuids);
+        assertThat(returned).allSatisfy(parameters -> {
+            assertThat(parameters.getLoadsVariations()).hasSize(1);
+            assertThat(parameters.getLoadsVariations().getFirst().getLoadFilters()).hasSize(2);
+        });
+    }
+
+    private DynamicMarginCalculationParametersInfos getRunParameters(UUID parametersUuid) {
+        return parametersService.createRunContext(UUID.randomUUID(), null, null, null, USER_ID,
+                UUID.randomUUID(), UUID.randomUUID(), parametersUuid, false).getParameters();
+    }
+
+    private double getParametersDatabaseQueries() {
+        return meterRegistry.get("cache.database.queries").tag("cache", "dmc.parameters").counter().count();
+    }
+
+    @Test
+    void testParametersCache() throws Exception {
+        DynamicMarginCalculationParametersInfos infos = newParametersInfosWithLoadFilters();
+        infos.setAccuracy(1);
+        UUID parametersUuid = parametersRepository.save(new DynamicMarginCalculationParametersEntity(infos)).getId();
+
+        // run submissions after the first one are served from the cache
+        double databaseQueriesBefore = getParametersDatabaseQueries();
+        assertThat(getRunParameters(parametersUuid).getAccuracy()).isEqualTo(1);
+        assertThat(getRunParameters(parametersUuid).getAccuracy()).isEqualTo(1);
+        assertThat(getParametersDatabaseQueries() - databaseQueriesBefore).isEqualTo(1);
+
+        // the copy of a run does not alter the cached parameters
+        DynamicMarginCalculationParametersInfos runParameters = getRunParameters(parametersUuid);
+        runParameters.setLoadsVariations(List.of());
+        assertThat(getRunParameters(parametersUuid).getLoadsVariations()).hasSize(1);
+
+        // evicted by an update, which is signaled to the other replicas
+        infos.setAccuracy(2);
+        mockMvc.perform(put("/v1/parameters/{uuid}", parametersUuid)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(infos)))
+                .andExpect(status().isOk());
+        assertThat(getRunParameters(parametersUuid).getAccuracy()).isEqualTo(2);
+        Message<byte[]> message = output.receive(1000, "dmc.parameters.updated.destination");
+        assertThat(message).isNotNull();
+        assertThat(message.getHeaders()).containsEntry(ParametersCache.HEADER_PARAMETERS_UUID, parametersUuid.toString());
+
+        // evicted by the signal of another replica
+        DynamicMarginCalculationParametersEntity entity = parametersRepository.findById(parametersUuid).orElseThrow();
+        entity.setAccuracy(3);
+        parametersRepository.save(entity);
+        assertThat(getRunParameters(parametersUuid).getAccuracy()).isEqualTo(2);
+        parametersNotificationListener.consumeParametersUpdated().accept(MessageBuilder.withPayload("")
+                .setHeader(ParametersCache.HEADER_PARAMETERS_UUID, parametersUuid.toString())
+                .build());
+        assertThat(getRunParameters(parametersUuid).getAccuracy()).isEqualTo(3);
     }
 
     @Test
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultField;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.MarginCalculationResultEntity;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.dynamicmargincalculation.server.service.DynamicMarginCalculationResultServiceTest.*;
+
+/**
+ * Results stored encoded in one compressed column, read back whole then processed in memory.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest(properties = "dynamic-margin-calculation.result.storage-mode=COMPRESSED")
+class DynamicMarginCalculationResultCompressedTest {
+
+    @Autowired
+    MarginCalculationResultRepository resultRepository;
+
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+    }
+
+    private UUID insertResult(MarginCalculationResult result) {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+        return resultUuid;
+    }
+
+    // rows written as by the relational storage mode, to compare both modes
+    private UUID insertRelationalResult(MarginCalculationResult result) {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.SUCCEED);
+        resultRepository.insertResult(resultUuid, result);
+        return resultUuid;
+    }
+
+    private String streamResult(UUID resultUuid, Set<ResultField> fields) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dynamicMarginCalculationResultService.writeResult(resultUuid, outputStream, MediaType.APPLICATION_JSON_VALUE, fields);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testInsertResult() {
+        MarginCalculationResult result = createResult(10, 500);
+        UUID resultUuid = insertResult(result);
+
+        // one encoded value, no rows
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid).orElseThrow();
+        assertThat(resultEntity.getResultData()).isNotEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scenario_result", Integer.class)).isZero();
+
+        MarginCalculationResult foundResult = dynamicMarginCalculationResultService.findResult(resultUuid);
+        assertThat(foundResult.getLoadIncreaseResults()).usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+    }
+
+    @Test
+    void testWriteResult() {
+        MarginCalculationResult result = createResult(3, 50);
+        UUID resultUuid = insertResult(result);
+
+        Set<ResultField> withoutFailedCriteria = EnumSet.of(ResultField.SCENARIO_RESULTS);
+        Set<ResultField> noField = EnumSet.noneOf(ResultField.class);
+        assertThat(streamResult(resultUuid, ALL_FIELDS)).isEqualTo(writeResult(result, ALL_FIELDS));
+        assertThat(streamResult(resultUuid, withoutFailedCriteria)).isEqualTo(writeResult(result, withoutFailedCriteria));
+        assertThat(streamResult(resultUuid, noField)).isEqualTo(writeResult(result, noField));
+    }
+
+    @Test
+    void testWriteCsv() {
+        MarginCalculationResult result = createResult(2, 3);
+        UUID resultUuid = insertResult(result);
+        UUID relationalResultUuid = insertRelationalResult(result);
+
+        // same tables whatever the storage mode
+        for (ResultExportTable table : ResultExportTable.values()) {
+            assertThat(writeCsv(dynamicMarginCalculationResultService, resultUuid, table))
+                    .isEqualTo(writeCsv(dynamicMarginCalculationResultService, relationalResultUuid, table));
+        }
+    }
+
+    @Test
+    void testFindScenarioResults() {
+        assertScenarioResults(dynamicMarginCalculationResultService, insertResult(createResult(3, 10)));
+    }
+
+    @Test
+    void testDiffResults() {
+        // same differences found in memory when a result is stored encoded
+        assertResultDiff(dynamicMarginCalculationResultService, insertRelationalResult(createDiffResult()), insertResult(createOtherDiffResult()));
+        assertResultDiff(dynamicMarginCalculationResultService, insertResult(createDiffResult()), insertResult(createOtherDiffResult()));
+    }
+}
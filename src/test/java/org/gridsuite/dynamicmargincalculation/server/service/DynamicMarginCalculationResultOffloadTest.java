@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.MarginCalculationResultEntity;
+import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Results offloaded to the object storage, backed by an in memory S3 stand-in.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest(properties = "dynamic-margin-calculation.result.offload-threshold=0B")
+class DynamicMarginCalculationResultOffloadTest {
+
+    @Autowired
+    DynamicMarginCalculationStatusRepository statusRepository;
+
+    @Autowired
+    MarginCalculationResultRepository resultRepository;
+
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @MockitoBean
+    S3Client s3Client;
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            try (var content = body.contentStreamProvider().newStream()) {
+                objects.put(request.key(), content.readAllBytes());
+            }
+            return PutObjectResponse.builder().build();
+        });
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            byte[] content = objects.get(request.key());
+            if (content == null) {
+                throw NoSuchKeyException.builder().message(request.key()).build();
+            }
+            return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) content.length).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        });
+        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectRequest request = invocation.getArgument(0);
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        });
+    }
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+        objects.clear();
+    }
+
+    @Test
+    void testOffloadedResult() {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(10, 500);
+        dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+
+        // only a pointer is kept in the database
+        MarginCalculationResultEntity resultEntity = resultRepository.findByResultUuid(resultUuid).orElseThrow();
+        assertThat(resultEntity.getResultLocation()).isEqualTo("results/" + resultUuid);
+        assertThat(resultEntity.getResultData()).isNull();
+        assertThat(objects).containsOnlyKeys(resultEntity.getResultLocation());
+        assertThat(resultEntity.getResultSize()).isEqualTo((long) objects.get(resultEntity.getResultLocation()).length);
+        assertThat(resultEntity.getResultSize()).isLessThanOrEqualTo(MarginCalculationResultCodec.maxEncodedSize(result));
+
+        // read back transparently from the object storage
+        MarginCalculationResult foundResult = dynamicMarginCalculationResultService.findResult(resultUuid);
+        assertThat(foundResult.getLoadIncreaseResults()).usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+
+        // object removed with the result
+        dynamicMarginCalculationResultService.delete(resultUuid);
+        assertThat(resultRepository.findByResultUuid(resultUuid)).isEmpty();
+        assertThat(objects).isEmpty();
+    }
+}
@@ -7,41 +7,556 @@
 
 package org.gridsuite.dynamicmargincalculation.server.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.powsybl.dynawo.contingency.results.FailedCriterion;
+import com.powsybl.dynawo.contingency.results.ScenarioResult;
+import com.powsybl.dynawo.margincalculation.results.LoadIncreaseResult;
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.gridsuite.computation.error.ComputationException;
 import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.MarginChangeInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultDiffInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultExportTable;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultField;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultSummaryInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultFilter;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ScenarioResultInfos;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.StatusChangeInfos;
 import org.gridsuite.dynamicmargincalculation.server.entities.DynamicMarginCalculationStatusEntity;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.MarginCalculationResultEntity;
+import org.gridsuite.dynamicmargincalculation.server.error.DynamicMarginCalculationException;
 import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.gridsuite.dynamicmargincalculation.server.utils.MarginCalculationResultJsonWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.powsybl.dynawo.contingency.results.Status.CONVERGENCE;
+import static com.powsybl.dynawo.contingency.results.Status.CRITERIA_NON_RESPECTED;
+import static com.powsybl.dynawo.contingency.results.Status.EXECUTION_PROBLEM;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.gridsuite.computation.service.NotificationService.HEADER_RESULT_UUID;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_CBOR_VALUE;
+import static org.gridsuite.dynamicmargincalculation.server.DynamicMarginCalculationApi.APPLICATION_SMILE_VALUE;
 
 /**
  * @author Thang PHAM <quyet-thang.pham at rte-france.com>
  */
 @SpringBootTest
+@Import(JdbcStatementCounter.class)
 class DynamicMarginCalculationResultServiceTest {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicMarginCalculationResultServiceTest.class);
 
+    static final Set<ResultField> ALL_FIELDS = EnumSet.allOf(ResultField.class);
+
     @Autowired
     DynamicMarginCalculationStatusRepository statusRepository;
 
+    @Autowired
+    MarginCalculationResultRepository resultRepository;
+
     @Autowired
     DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
 
+    @Autowired
+    ResultNotificationListener resultNotificationListener;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    JdbcStatementCounter jdbcStatementCounter;
+
     @AfterEach
     void cleanDB() {
         statusRepository.deleteAll();
+        resultRepository.deleteAll();
+    }
+
+    static MarginCalculationResult createResult(int loadLevelCount, int scenarioCount) {
+        List<LoadIncreaseResult> loadIncreaseResults = new ArrayList<>();
+        for (int i = 0; i < loadLevelCount; i++) {
+            List<ScenarioResult> scenarioResults = new ArrayList<>();
+            for (int j = 0; j < scenarioCount; j++) {
+                scenarioResults.add(j % 2 == 0 ?
+                        new ScenarioResult("equipment_" + j, CONVERGENCE) :
+                        new ScenarioResult("equipment_" + j, CRITERIA_NON_RESPECTED,
+                                List.of(new FailedCriterion("total load power = 207.704MW > 200MW (criteria id: Risque protection)", 56.929320),
+                                        new FailedCriterion("node voltage < 0.8 pu (criteria id: Voltage)", 60.1))));
+            }
+            loadIncreaseResults.add(new LoadIncreaseResult(i * 10, i % 2 == 0 ? CONVERGENCE : CRITERIA_NON_RESPECTED, scenarioResults,
+                    List.of(new FailedCriterion("total load power = 207.704MW > 200MW (criteria id: Risque protection)", 56.929320))));
+        }
+        return new MarginCalculationResult(loadIncreaseResults);
+    }
+
+    @Test
+    void testInsertResult() {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        // 10 load levels x 500 scenarios, half of them with 2 failed criteria
+        MarginCalculationResult result = createResult(10, 500);
+
+        jdbcStatementCounter.reset();
+        dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+
+        // rows sent by JDBC batches of 1000, no statement per row
+        assertThat(jdbcStatementCounter.getExecutionCount("INSERT INTO dynamic_margin_calculation_result (")).isEqualTo(1);
+        assertThat(jdbcStatementCounter.getExecutionCount("INSERT INTO load_increase_result")).isZero();
+        assertThat(jdbcStatementCounter.getExecutionCount("INSERT INTO scenario_result")).isZero();
+        assertThat(jdbcStatementCounter.getExecutionCount("UPDATE load_increase_result")).isZero();
+        assertThat(jdbcStatementCounter.getExecutionCount("UPDATE scenario_result")).isZero();
+        assertThat(jdbcStatementCounter.getBatchedRowCount("INSERT INTO load_increase_result (")).isEqualTo(10);
+        assertThat(jdbcStatementCounter.getBatchCount("INSERT INTO load_increase_result (")).isEqualTo(1);
+        assertThat(jdbcStatementCounter.getBatchedRowCount("INSERT INTO load_increase_result_failed_criteria")).isEqualTo(10);
+        assertThat(jdbcStatementCounter.getBatchCount("INSERT INTO load_increase_result_failed_criteria")).isEqualTo(1);
+        assertThat(jdbcStatementCounter.getBatchedRowCount("INSERT INTO scenario_result (")).isEqualTo(5000);
+        assertThat(jdbcStatementCounter.getBatchCount("INSERT INTO scenario_result (")).isEqualTo(5);
+        assertThat(jdbcStatementCounter.getBatchedRowCount("INSERT INTO scenario_result_failed_criteria")).isEqualTo(5000);
+        assertThat(jdbcStatementCounter.getBatchCount("INSERT INTO scenario_result_failed_criteria")).isEqualTo(5);
+
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+
+        // stored as rows, not encoded
+        assertThat(resultRepository.findByResultUuid(resultUuid).map(MarginCalculationResultEntity::getResultData)).isEmpty();
+
+        // read back by JPA, the whole graph must be kept in order
+        MarginCalculationResult foundResult = dynamicMarginCalculationResultService.findResult(resultUuid);
+        assertThat(foundResult.getLoadIncreaseResults()).usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+
+        // every row carries the result uuid, the partition key of the partitioned schema
+        for (String table : List.of("load_increase_result_failed_criteria", "scenario_result", "scenario_result_failed_criteria")) {
+            Integer otherResultRowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE result_uuid IS NULL OR result_uuid <> ?",
+                    Integer.class, resultUuid);
+            assertThat(otherResultRowCount).as(table).isZero();
+        }
+    }
+
+    @Test
+    void testFailedCriterionDescriptionDictionary() {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        MarginCalculationResult result = createResult(10, 500);
+        jdbcStatementCounter.reset();
+        dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+
+        // only the distinct descriptions are written and stored as text, each failed criterion referencing one of them
+        assertThat(jdbcStatementCounter.getBatchedRowCount("INSERT INTO failed_criterion_description")).isEqualTo(2);
+        Integer descriptionCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM failed_criterion_description", Integer.class);
+        assertThat(descriptionCount).isEqualTo(2);
+        Integer failedCriterionCount = jdbcTemplate.queryForObject("SELECT (SELECT COUNT(*) FROM load_increase_result_failed_criteria) + " +
+                "(SELECT COUNT(*) FROM scenario_result_failed_criteria)", Integer.class);
+        assertThat(failedCriterionCount).isEqualTo(10 + 5000);
+
+        // read back with one shared instance per distinct description
+        MarginCalculationResult foundResult = dynamicMarginCalculationResultService.findResult(resultUuid);
+        assertThat(foundResult.getLoadIncreaseResults()).usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+        List<ScenarioResult> scenarioResults = foundResult.getLoadIncreaseResults().getFirst().scenarioResults();
+        assertThat(scenarioResults.get(1).failedCriteria().getFirst().description())
+                .isSameAs(scenarioResults.get(3).failedCriteria().getFirst().description());
+    }
+
+    @Test
+    void testResultSummary() {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        MarginCalculationResult result = new MarginCalculationResult(List.of(
+                new LoadIncreaseResult(10, CONVERGENCE, List.of(new ScenarioResult("line_1", CONVERGENCE), new ScenarioResult("line_2", CONVERGENCE)), List.of()),
+                new LoadIncreaseResult(50, CONVERGENCE, List.of(new ScenarioResult("line_1", CRITERIA_NON_RESPECTED), new ScenarioResult("line_2", EXECUTION_PROBLEM)), List.of()),
+                new LoadIncreaseResult(30, CONVERGENCE, List.of(new ScenarioResult("line_1", CONVERGENCE), new ScenarioResult("line_2", CONVERGENCE)), List.of()),
+                new LoadIncreaseResult(40, CONVERGENCE, List.of(new ScenarioResult("line_1", CONVERGENCE), new ScenarioResult("line_2", CRITERIA_NON_RESPECTED)), List.of()),
+                new LoadIncreaseResult(100, CRITERIA_NON_RESPECTED, List.of(), List.of())
+        ));
+        dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+
+        ResultSummaryInfos summary = dynamicMarginCalculationResultService.findResultSummary(resultUuid);
+        assertThat(summary.getResultUuid()).isEqualTo(resultUuid);
+        assertThat(summary.getFinalMargin()).isEqualTo(30);
+        assertThat(summary.getLoadIncreaseResultCount()).isEqualTo(5);
+        assertThat(summary.getScenarioResultCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                CONVERGENCE, 5,
+                CRITERIA_NON_RESPECTED, 2,
+                EXECUTION_PROBLEM, 1));
+        assertThat(summary.getLimitingContingencies()).containsExactly("line_2");
+
+        // deleted with the result
+        dynamicMarginCalculationResultService.delete(resultUuid);
+        assertThatThrownBy(() -> dynamicMarginCalculationResultService.findResultSummary(resultUuid))
+                .isInstanceOf(ComputationException.class)
+                .hasMessageContaining("Result uuid not found: " + resultUuid);
+    }
+
+    static String writeResult(MarginCalculationResult result, Set<ResultField> fields) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = MarginCalculationResultJsonWriter.createGenerator(outputStream)) {
+            MarginCalculationResultJsonWriter.writeResult(generator, result, fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private String streamResult(UUID resultUuid, Set<ResultField> fields) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dynamicMarginCalculationResultService.writeResult(resultUuid, outputStream, MediaType.APPLICATION_JSON_VALUE, fields);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private String streamResult(MarginCalculationResult result) {
+        return streamResult(insertResults(1, result).getFirst(), ALL_FIELDS);
+    }
+
+    @Test
+    void testWriteResult() {
+        MarginCalculationResult result = createResult(3, 50);
+        String expectedJson = writeResult(result, ALL_FIELDS);
+
+        assertThat(streamResult(result)).isEqualTo(expectedJson);
+
+        UUID unknownResultUuid = UUID.randomUUID();
+        assertThat(dynamicMarginCalculationResultService.existsResult(unknownResultUuid)).isFalse();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> dynamicMarginCalculationResultService.writeResult(unknownResultUuid, outputStream, MediaType.APPLICATION_JSON_VALUE, ALL_FIELDS))
+                .isInstanceOf(ComputationException.class);
+    }
+
+    @Test
+    void testWriteResultFields() {
+        MarginCalculationResult result = createResult(3, 50);
+        Set<ResultField> withoutFailedCriteria = EnumSet.of(ResultField.SCENARIO_RESULTS);
+        Set<ResultField> noField = EnumSet.noneOf(ResultField.class);
+        String expectedWithoutFailedCriteriaJson = writeResult(result, withoutFailedCriteria);
+        String expectedNoFieldJson = writeResult(result, noField);
+        assertThat(expectedWithoutFailedCriteriaJson).contains("scenarioResults").doesNotContain("failedCriteria");
+        assertThat(expectedNoFieldJson).contains("loadLevel").doesNotContain("scenarioResults");
+
+        UUID resultUuid = insertResults(1, result).getFirst();
+        assertThat(streamResult(resultUuid, withoutFailedCriteria)).isEqualTo(expectedWithoutFailedCriteriaJson);
+        assertThat(streamResult(resultUuid, noField)).isEqualTo(expectedNoFieldJson);
+
+        // scenario results page without their failed criteria
+        Page<ScenarioResultInfos> page = dynamicMarginCalculationResultService.findScenarioResults(resultUuid,
+                new ScenarioResultFilter(), noField, PageRequest.of(0, 10));
+        assertThat(page.getContent()).hasSize(10)
+                .allSatisfy(scenarioResult -> assertThat(scenarioResult.getFailedCriteria()).isNull());
+    }
+
+    @Test
+    void testWriteResultFormats() throws IOException {
+        // 10 load levels x 500 scenarios, half of them with 2 failed criteria
+        MarginCalculationResult result = createResult(10, 500);
+        UUID resultUuid = insertResults(1, result).getFirst();
+
+        Map<String, JsonFactory> factories = Map.of(
+                MediaType.APPLICATION_JSON_VALUE, new JsonFactory(),
+                APPLICATION_SMILE_VALUE, new SmileFactory(),
+                APPLICATION_CBOR_VALUE, new CBORFactory());
+        Map<String, JsonNode> trees = new HashMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        for (Map.Entry<String, JsonFactory> factory : factories.entrySet()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            dynamicMarginCalculationResultService.writeResult(resultUuid, outputStream, factory.getKey(), ALL_FIELDS);
+            byte[] content = outputStream.toByteArray();
+            trees.put(factory.getKey(), new ObjectMapper(factory.getValue()).readTree(content));
+            sizes.put(factory.getKey(), content.length);
+        }
+
+        // same content whatever the format, binary formats being smaller
+        assertThat(trees.get(MediaType.APPLICATION_JSON_VALUE)).isEqualTo(new ObjectMapper().readTree(writeResult(result, ALL_FIELDS)));
+        assertThat(trees.get(APPLICATION_SMILE_VALUE)).isEqualTo(trees.get(MediaType.APPLICATION_JSON_VALUE));
+        assertThat(trees.get(APPLICATION_CBOR_VALUE)).isEqualTo(trees.get(MediaType.APPLICATION_JSON_VALUE));
+        assertThat(sizes.get(APPLICATION_SMILE_VALUE)).isLessThan(sizes.get(MediaType.APPLICATION_JSON_VALUE));
+        assertThat(sizes.get(APPLICATION_CBOR_VALUE)).isLessThan(sizes.get(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    static String writeCsv(DynamicMarginCalculationResultService resultService, UUID resultUuid, ResultExportTable table) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resultService.writeCsv(resultUuid, table, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testWriteCsv() {
+        MarginCalculationResult result = createResult(2, 3);
+        UUID resultUuid = insertResults(1, result).getFirst();
+
+        assertThat(writeCsv(dynamicMarginCalculationResultService, resultUuid, ResultExportTable.LOAD_INCREASE_RESULT)).isEqualTo(
+                "load_increase_index,load_level,status\r\n" +
+                "0,0.0,CONVERGENCE\r\n" +
+                "1,10.0,CRITERIA_NON_RESPECTED\r\n");
+        assertThat(writeCsv(dynamicMarginCalculationResultService, resultUuid, ResultExportTable.SCENARIO_RESULT_FAILED_CRITERIA)).isEqualTo(
+                "load_increase_index,scenario_index,criterion_index,description,time\r\n" +
+                "0,1,0,total load power = 207.704MW > 200MW (criteria id: Risque protection),56.92932\r\n" +
+                "0,1,1,node voltage < 0.8 pu (criteria id: Voltage),60.1\r\n" +
+                "1,1,0,total load power = 207.704MW > 200MW (criteria id: Risque protection),56.92932\r\n" +
+                "1,1,1,node voltage < 0.8 pu (criteria id: Voltage),60.1\r\n");
+    }
+
+    static void assertScenarioResults(DynamicMarginCalculationResultService resultService, UUID resultUuid) {
+        // list order by default
+        Page<ScenarioResultInfos> page = resultService.findScenarioResults(resultUuid,
+                new ScenarioResultFilter(), ALL_FIELDS, PageRequest.of(1, 4));
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).extracting(ScenarioResultInfos::getLoadLevel, ScenarioResultInfos::getEquipmentId)
+                .containsExactly(tuple(0.0, "equipment_4"), tuple(0.0, "equipment_5"), tuple(0.0, "equipment_6"), tuple(0.0, "equipment_7"));
+
+        ScenarioResultFilter filter = ScenarioResultFilter.builder()
+                .statuses(List.of(CRITERIA_NON_RESPECTED))
+                .minLoadLevel(10.0)
+                .failedCriterion("VOLTAGE")
+                .build();
+        page = resultService.findScenarioResults(resultUuid, filter, ALL_FIELDS,
+                PageRequest.of(0, 3, Sort.by(Sort.Order.desc("loadLevel"), Sort.Order.asc("equipmentId"))));
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent()).extracting(ScenarioResultInfos::getLoadLevel, ScenarioResultInfos::getEquipmentId)
+                .containsExactly(tuple(20.0, "equipment_1"), tuple(20.0, "equipment_3"), tuple(20.0, "equipment_5"));
+        ScenarioResultInfos scenarioResult = page.getContent().getFirst();
+        assertThat(scenarioResult.getStatus()).isSameAs(CRITERIA_NON_RESPECTED);
+        assertThat(scenarioResult.getLoadIncreaseStatus()).isSameAs(CONVERGENCE);
+        assertThat(scenarioResult.getFailedCriteria()).extracting(FailedCriterion::description)
+                .containsExactly("total load power = 207.704MW > 200MW (criteria id: Risque protection)", "node voltage < 0.8 pu (criteria id: Voltage)");
+
+        page = resultService.findScenarioResults(resultUuid,
+                ScenarioResultFilter.builder().equipmentIdPrefix("equipment_1").maxLoadLevel(10.0).build(), ALL_FIELDS, PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(ScenarioResultInfos::getLoadLevel, ScenarioResultInfos::getEquipmentId)
+                .containsExactly(tuple(0.0, "equipment_1"), tuple(10.0, "equipment_1"));
+
+        // wildcards are searched as text
+        page = resultService.findScenarioResults(resultUuid,
+                ScenarioResultFilter.builder().equipmentIdPrefix("equipment%").build(), ALL_FIELDS, PageRequest.of(0, 10));
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    void testFindScenarioResults() {
+        MarginCalculationResult result = createResult(3, 10);
+        UUID resultUuid = insertResults(1, result).getFirst();
+        assertScenarioResults(dynamicMarginCalculationResultService, resultUuid);
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("failedCriteria"));
+        assertThatThrownBy(() -> dynamicMarginCalculationResultService.findScenarioResults(resultUuid, new ScenarioResultFilter(), ALL_FIELDS, pageRequest))
+                .isInstanceOf(DynamicMarginCalculationException.class);
+        UUID unknownResultUuid = UUID.randomUUID();
+        PageRequest unsortedPageRequest = PageRequest.of(0, 10);
+        assertThatThrownBy(() -> dynamicMarginCalculationResultService.findScenarioResults(unknownResultUuid, new ScenarioResultFilter(), ALL_FIELDS, unsortedPageRequest))
+                .isInstanceOf(ComputationException.class);
+    }
+
+    static void assertResultDiff(DynamicMarginCalculationResultService resultService, UUID resultUuid, UUID otherResultUuid) {
+        ResultDiffInfos diff = resultService.diffResults(resultUuid, otherResultUuid, PageRequest.of(0, 2));
+        assertThat(diff.getMarginChanges())
+                .extracting(MarginChangeInfos::getEquipmentId, MarginChangeInfos::getMargin, MarginChangeInfos::getOtherMargin)
+                .containsExactly(tuple("equipment_a", 20.0, 10.0), tuple("equipment_c", 20.0, 10.0), tuple("equipment_d", null, 20.0));
+        assertThat(diff.getNewlyFailingContingencies()).containsExactly("equipment_a");
+        assertThat(diff.getStatusChangeCount()).isEqualTo(3);
+        assertThat(diff.getStatusChanges())
+                .extracting(StatusChangeInfos::getEquipmentId, StatusChangeInfos::getLoadLevel, StatusChangeInfos::getStatus, StatusChangeInfos::getOtherStatus)
+                .containsExactly(tuple("equipment_a", 20.0, CONVERGENCE, CRITERIA_NON_RESPECTED), tuple("equipment_c", 20.0, CONVERGENCE, null));
+
+        diff = resultService.diffResults(resultUuid, otherResultUuid, PageRequest.of(1, 2));
+        assertThat(diff.getStatusChanges())
+                .extracting(StatusChangeInfos::getEquipmentId, StatusChangeInfos::getLoadLevel, StatusChangeInfos::getStatus, StatusChangeInfos::getOtherStatus)
+                .containsExactly(tuple("equipment_d", 20.0, null, CONVERGENCE));
+
+        // no difference with itself
+        diff = resultService.diffResults(resultUuid, resultUuid, PageRequest.of(0, 2));
+        assertThat(diff.getMarginChanges()).isEmpty();
+        assertThat(diff.getNewlyFailingContingencies()).isEmpty();
+        assertThat(diff.getStatusChanges()).isEmpty();
+        assertThat(diff.getStatusChangeCount()).isZero();
+    }
+
+    static MarginCalculationResult createDiffResult() {
+        return new MarginCalculationResult(List.of(
+                new LoadIncreaseResult(10, CONVERGENCE, List.of(new ScenarioResult("equipment_a", CONVERGENCE),
+                        new ScenarioResult("equipment_b", CONVERGENCE), new ScenarioResult("equipment_c", CONVERGENCE)), List.of()),
+                new LoadIncreaseResult(20, CONVERGENCE, List.of(new ScenarioResult("equipment_a", CONVERGENCE),
+                        new ScenarioResult("equipment_b", CRITERIA_NON_RESPECTED), new ScenarioResult("equipment_c", CONVERGENCE)), List.of())));
+    }
+
+    static MarginCalculationResult createOtherDiffResult() {
+        return new MarginCalculationResult(List.of(
+                new LoadIncreaseResult(10, CONVERGENCE, List.of(new ScenarioResult("equipment_a", CONVERGENCE),
+                        new ScenarioResult("equipment_b", CONVERGENCE), new ScenarioResult("equipment_c", CONVERGENCE)), List.of()),
+                new LoadIncreaseResult(20, CONVERGENCE, List.of(new ScenarioResult("equipment_a", CRITERIA_NON_RESPECTED),
+                        new ScenarioResult("equipment_b", CRITERIA_NON_RESPECTED), new ScenarioResult("equipment_d", CONVERGENCE)), List.of())));
+    }
+
+    @Test
+    void testDiffResults() {
+        UUID resultUuid = insertResults(1, createDiffResult()).getFirst();
+        assertResultDiff(dynamicMarginCalculationResultService, resultUuid, insertResults(1, createOtherDiffResult()).getFirst());
+
+        UUID unknownResultUuid = UUID.randomUUID();
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        assertThatThrownBy(() -> dynamicMarginCalculationResultService.diffResults(resultUuid, unknownResultUuid, pageRequest))
+                .isInstanceOf(ComputationException.class);
+    }
+
+    private List<UUID> insertResults(int resultCount, MarginCalculationResult result) {
+        List<UUID> resultUuids = new ArrayList<>();
+        for (int i = 0; i < resultCount; i++) {
+            UUID resultUuid = UUID.randomUUID();
+            dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+            dynamicMarginCalculationResultService.insertResult(resultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+            resultUuids.add(resultUuid);
+        }
+        return resultUuids;
+    }
+
+    @Test
+    void testDeleteResults() {
+        MarginCalculationResult result = createResult(5, 200);
+        List<UUID> resultUuids = insertResults(5, result);
+        UUID keptResultUuid = insertResults(1, result).getFirst();
+
+        jdbcStatementCounter.reset();
+        dynamicMarginCalculationResultService.delete(resultUuids);
+
+        // one set-based delete per table whatever the number of rows, no entity graph loaded
+        assertThat(jdbcStatementCounter.getExecutionCount("DELETE FROM dynamic_margin_calculation_status")).isEqualTo(1);
+        for (String table : List.of("result_summary_limiting_contingency", "dynamic_margin_calculation_result_summary",
+                "scenario_result_failed_criteria", "scenario_result", "load_increase_result_failed_criteria", "load_increase_result",
+                "dynamic_margin_calculation_result")) {
+            assertThat(jdbcStatementCounter.getExecutionCount("DELETE FROM " + table + " WHERE")).as(table).isEqualTo(1);
+        }
+        assertThat(jdbcStatementCounter.getExecutionCount("DELETE")).isEqualTo(8);
+        // only the object storage locations are read
+        assertThat(jdbcStatementCounter.getExecutionCount("SELECT")).isEqualTo(1);
+
+        assertThat(statusRepository.findAllById(resultUuids)).isEmpty();
+        assertThat(resultRepository.findAllById(resultUuids)).isEmpty();
+
+        // other results untouched
+        assertThat(dynamicMarginCalculationResultService.findStatus(keptResultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(dynamicMarginCalculationResultService.findResult(keptResultUuid).getLoadIncreaseResults())
+                .usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+    }
+
+    @Test
+    void testUpdateStatuses() {
+        // more uuids than a chunk, with an unknown one
+        List<UUID> resultUuids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            resultUuids.add(UUID.randomUUID());
+        }
+        dynamicMarginCalculationResultService.insertStatus(resultUuids, DynamicMarginCalculationStatus.SUCCEED);
+        UUID unknownResultUuid = UUID.randomUUID();
+        List<UUID> requestedResultUuids = new ArrayList<>(resultUuids);
+        requestedResultUuids.add(unknownResultUuid);
+
+        jdbcStatementCounter.reset();
+        List<UUID> updatedResultUuids = dynamicMarginCalculationResultService.updateStatus(requestedResultUuids, DynamicMarginCalculationStatus.NOT_DONE);
+
+        // one set-based update returning the updated uuids per chunk of 1000 uuids, no statement per status
+        assertThat(jdbcStatementCounter.getExecutionCount("SELECT")).isZero();
+        assertThat(jdbcStatementCounter.getExecutionCount("UPDATE dynamic_margin_calculation_status")).isEqualTo(3);
+        assertThat(jdbcStatementCounter.getBatchedRowCount("UPDATE")).isZero();
+
+        assertThat(updatedResultUuids).containsExactlyInAnyOrderElementsOf(resultUuids);
+        assertThat(statusRepository.findAllById(resultUuids))
+                .hasSize(resultUuids.size())
+                .allMatch(statusEntity -> statusEntity.getStatus() == DynamicMarginCalculationStatus.NOT_DONE);
+        assertThat(statusRepository.findById(unknownResultUuid)).isEmpty();
+    }
+
+    private double statusDatabaseQueries() {
+        return meterRegistry.get("cache.database.queries").tag("cache", ResultStatusCache.CACHE_NAME).counter().count();
+    }
+
+    @Test
+    void testStatusCache() {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        // polling served from the cache after the first read
+        double databaseQueries = statusDatabaseQueries();
+        for (int i = 0; i < 10; i++) {
+            assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.RUNNING);
+        }
+        assertThat(statusDatabaseQueries()).isEqualTo(databaseQueries + 1);
+
+        // evicted by a local change
+        dynamicMarginCalculationResultService.updateStatus(resultUuid, DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+
+        // change made by another replica, evicted on its notification
+        statusRepository.saveAndFlush(new DynamicMarginCalculationStatusEntity(resultUuid, DynamicMarginCalculationStatus.FAILED));
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        resultNotificationListener.consumeResultNotification().accept(MessageBuilder.withPayload("")
+                .setHeader(HEADER_RESULT_UUID, resultUuid.toString())
+                .build());
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.FAILED);
+
+        // evicted by a deletion
+        dynamicMarginCalculationResultService.delete(resultUuid);
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isNull();
+    }
+
+    @Test
+    void testFindStatuses() {
+        // more uuids than a chunk, with an unknown one and a cached one
+        List<UUID> resultUuids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            resultUuids.add(UUID.randomUUID());
+        }
+        dynamicMarginCalculationResultService.insertStatus(resultUuids, DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.updateStatus(resultUuids.getFirst(), DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuids.getFirst())).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        UUID unknownResultUuid = UUID.randomUUID();
+        List<UUID> requestedResultUuids = new ArrayList<>(resultUuids);
+        requestedResultUuids.add(unknownResultUuid);
+
+        // the missing statuses are loaded at once
+        double databaseQueries = statusDatabaseQueries();
+        Map<UUID, DynamicMarginCalculationStatus> statuses = dynamicMarginCalculationResultService.findStatuses(requestedResultUuids);
+        assertThat(statusDatabaseQueries()).isEqualTo(databaseQueries + 1);
+
+        assertThat(statuses).hasSize(resultUuids.size())
+                .containsEntry(resultUuids.getFirst(), DynamicMarginCalculationStatus.SUCCEED)
+                .containsEntry(resultUuids.getLast(), DynamicMarginCalculationStatus.RUNNING)
+                .doesNotContainKey(unknownResultUuid);
+
+        // then served from the cache
+        assertThat(dynamicMarginCalculationResultService.findStatuses(resultUuids)).isEqualTo(statuses);
+        assertThat(statusDatabaseQueries()).isEqualTo(databaseQueries + 1);
     }
 
     @Test
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the JDBC round trips made through the data source by SQL statement: single executions, executed batches and
+ * rows added to the batches. Imported by the tests checking how many statements the persistence code issues.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+class JdbcStatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final Set<String> EXECUTE_BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+
+    private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> batches = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> batchedRows = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    public void reset() {
+        executions.clear();
+        batches.clear();
+        batchedRows.clear();
+    }
+
+    /**
+     * Statements starting with the given SQL prefix executed one at a time, case and blanks being ignored.
+     */
+    public long getExecutionCount(String sqlPrefix) {
+        return count(executions, sqlPrefix);
+    }
+
+    public long getBatchCount(String sqlPrefix) {
+        return count(batches, sqlPrefix);
+    }
+
+    public long getBatchedRowCount(String sqlPrefix) {
+        return count(batchedRows, sqlPrefix);
+    }
+
+    private static long count(Map<String, LongAdder> counts, String sqlPrefix) {
+        String normalizedSqlPrefix = normalize(sqlPrefix);
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(normalizedSqlPrefix))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    private static String normalize(String sql) {
+        return sql.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void increment(Map<String, LongAdder> counts, String sql) {
+        counts.computeIfAbsent(normalize(sql != null ? sql : ""), key -> new LongAdder()).increment();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object proxy(Class<?> type, ProxyHandler handler) {
+        return Proxy.newProxyInstance(JdbcStatementCounter.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(method, args);
+                });
+    }
+
+    @FunctionalInterface
+    private interface ProxyHandler {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = PREPARE_METHODS.contains(method.getName()) ? (String) args[0] : null;
+                return countingStatement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Object countingStatement(Class<?> type, Statement statement, String preparedSql) {
+        // plain statements carry their SQL in the execute and addBatch arguments
+        String[] batchSql = {preparedSql};
+        return proxy(type, (method, args) -> {
+            String argumentSql = args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+            String sql = argumentSql != null ? argumentSql : preparedSql;
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                increment(executions, sql);
+            } else if ("addBatch".equals(method.getName())) {
+                batchSql[0] = sql;
+                increment(batchedRows, sql);
+            } else if (EXECUTE_BATCH_METHODS.contains(method.getName())) {
+                increment(batches, batchSql[0]);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private final class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import org.gridsuite.dynamicmargincalculation.server.config.ReplicaLagMonitor;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.entities.DynamicMarginCalculationStatusEntity;
+import org.gridsuite.dynamicmargincalculation.server.repositories.DynamicMarginCalculationStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+/**
+ * Routing between two local database instances, the replica one only holding the tables read by this test. Only the
+ * methods annotated with {@link org.gridsuite.dynamicmargincalculation.server.config.ReadFromReplica} read the replica.
+ *
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest(properties = {
+    "dynamic-margin-calculation.read-replica.enabled=true",
+    "dynamic-margin-calculation.read-replica.url=jdbc:h2:mem:dmc-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "dynamic-margin-calculation.read-replica.lag-query=SELECT lag_seconds FROM replica_lag",
+    "dynamic-margin-calculation.read-replica.max-lag=5s",
+    // lag checked by the test only
+    "dynamic-margin-calculation.read-replica.lag-check-interval=PT1H"
+})
+class ReadReplicaRoutingTest {
+
+    private static final String REPLICA_DEBUG_FILE_LOCATION = "debug/replica";
+
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @Autowired
+    SupervisionService supervisionService;
+
+    @Autowired
+    DynamicMarginCalculationStatusRepository statusRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds FLOAT(53))");
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS dynamic_margin_calculation_status (result_uuid UUID PRIMARY KEY, " +
+                "status VARCHAR(255), debug_file_location VARCHAR(255), last_modification_date TIMESTAMP(6) WITH TIME ZONE, " +
+                "result_version BIGINT DEFAULT 0 NOT NULL)");
+        setReplicaLag(0);
+    }
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+        replicaJdbcTemplate.update("DELETE FROM dynamic_margin_calculation_status");
+    }
+
+    private void setReplicaLag(double lagSeconds) {
+        replicaJdbcTemplate.update("DELETE FROM replica_lag");
+        replicaJdbcTemplate.update("INSERT INTO replica_lag (lag_seconds) VALUES (?)", lagSeconds);
+        replicaLagMonitor.checkLag();
+    }
+
+    @Test
+    void testReadOnlyTransactionsRouting() {
+        // two results written to the primary database
+        dynamicMarginCalculationResultService.insertStatus(List.of(UUID.randomUUID(), UUID.randomUUID()), DynamicMarginCalculationStatus.RUNNING);
+        // one result only known by the replica database
+        UUID replicaResultUuid = UUID.randomUUID();
+        replicaJdbcTemplate.update("INSERT INTO dynamic_margin_calculation_status (result_uuid, status, debug_file_location) VALUES (?, ?, ?)",
+                replicaResultUuid, DynamicMarginCalculationStatus.SUCCEED.name(), REPLICA_DEBUG_FILE_LOCATION);
+
+        // read-only transactions go to the replica
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(supervisionService.getResultsCount()).isEqualTo(1);
+        assertThat(dynamicMarginCalculationResultService.findDebugFileLocation(replicaResultUuid)).isEqualTo(REPLICA_DEBUG_FILE_LOCATION);
+
+        // read-write transactions stay on the primary
+        assertThat(transactionTemplate.execute(status -> statusRepository.count())).isEqualTo(2);
+
+        // lagging replica left for the primary
+        setReplicaLag(60);
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(supervisionService.getResultsCount()).isEqualTo(2);
+        assertThat(dynamicMarginCalculationResultService.findDebugFileLocation(replicaResultUuid)).isNull();
+
+        // back to the replica once caught up
+        setReplicaLag(0);
+        assertThat(supervisionService.getResultsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testStatusReadAfterWriteWhileReplicaLags() {
+        // replica usable but not yet up to date with the last status change
+        setReplicaLag(2);
+        UUID resultUuid = UUID.randomUUID();
+        replicaJdbcTemplate.update("INSERT INTO dynamic_margin_calculation_status (result_uuid, status) VALUES (?, ?)",
+                resultUuid, DynamicMarginCalculationStatus.RUNNING.name());
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.updateStatus(resultUuid, DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+
+        // the status reads, service and repository ones, stay on the primary
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isEqualTo(DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(dynamicMarginCalculationResultService.findStatuses(List.of(resultUuid))).containsEntry(resultUuid, DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(statusRepository.findByResultUuid(resultUuid)).get()
+                .extracting(DynamicMarginCalculationStatusEntity::getStatus).isEqualTo(DynamicMarginCalculationStatus.SUCCEED);
+    }
+
+    @Test
+    void testUnavailableReplica() {
+        dynamicMarginCalculationResultService.insertStatus(List.of(UUID.randomUUID()), DynamicMarginCalculationStatus.RUNNING);
+
+        // lag can not be measured
+        replicaJdbcTemplate.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(supervisionService.getResultsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testOutdatedLagMeasure() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, "SELECT lag_seconds FROM replica_lag",
+                Duration.ofSeconds(5), Duration.ofMillis(100));
+        monitor.checkLag();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        // no check for more than twice the interval, the last measure can no longer be trusted
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !monitor.isReplicaUsable());
+
+        monitor.checkLag();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+    }
+}
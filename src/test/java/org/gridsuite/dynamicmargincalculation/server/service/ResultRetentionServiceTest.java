@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest(properties = {
+    "dynamic-margin-calculation.retention.enabled=true",
+    "dynamic-margin-calculation.retention.max-age=1d",
+    "dynamic-margin-calculation.retention.batch-size=2",
+    "dynamic-margin-calculation.retention.batch-pause=0s"
+})
+class ResultRetentionServiceTest {
+
+    @Autowired
+    ResultRetentionService resultRetentionService;
+
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @Autowired
+    MarginCalculationResultRepository resultRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+    }
+
+    private void setLastModificationDate(List<UUID> resultUuids, Instant lastModificationDate) {
+        resultUuids.forEach(resultUuid -> jdbcTemplate.update(
+                "UPDATE dynamic_margin_calculation_status SET last_modification_date = ? WHERE result_uuid = ?",
+                Timestamp.from(lastModificationDate), resultUuid));
+    }
+
+    @Test
+    void testPurge() {
+        Instant expiredDate = Instant.now().minus(Duration.ofDays(2));
+
+        // expired results, more than one batch
+        List<UUID> expiredResultUuids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        dynamicMarginCalculationResultService.insertStatus(expiredResultUuids, DynamicMarginCalculationStatus.RUNNING);
+        expiredResultUuids.forEach(resultUuid -> dynamicMarginCalculationResultService.insertResult(resultUuid,
+                DynamicMarginCalculationResultServiceTest.createResult(2, 5), DynamicMarginCalculationStatus.SUCCEED));
+        setLastModificationDate(expiredResultUuids, expiredDate);
+
+        // old but still running computation
+        UUID runningResultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(runningResultUuid), DynamicMarginCalculationStatus.RUNNING);
+        setLastModificationDate(List.of(runningResultUuid), expiredDate);
+
+        // recent result
+        UUID recentResultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(recentResultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.insertResult(recentResultUuid,
+                DynamicMarginCalculationResultServiceTest.createResult(2, 5), DynamicMarginCalculationStatus.SUCCEED);
+
+        double purgedBefore = meterRegistry.counter("dmc.retention.purged.results").count();
+
+        assertThat(resultRetentionService.purge()).isEqualTo(expiredResultUuids.size());
+
+        expiredResultUuids.forEach(resultUuid -> {
+            assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isNull();
+            assertThat(resultRepository.findByResultUuid(resultUuid)).isEmpty();
+        });
+        assertThat(dynamicMarginCalculationResultService.findStatus(runningResultUuid)).isSameAs(DynamicMarginCalculationStatus.RUNNING);
+        assertThat(dynamicMarginCalculationResultService.findStatus(recentResultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(resultRepository.findByResultUuid(recentResultUuid)).isPresent();
+
+        assertThat(meterRegistry.counter("dmc.retention.purged.results").count() - purgedBefore).isEqualTo(expiredResultUuids.size());
+        assertThat(meterRegistry.timer("dmc.retention.purge.duration").count()).isPositive();
+
+        // nothing left to purge
+        assertThat(resultRetentionService.purge()).isZero();
+    }
+
+    @Test
+    void testScheduledPurge() {
+        UUID expiredResultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(expiredResultUuid), DynamicMarginCalculationStatus.SUCCEED);
+        setLastModificationDate(List.of(expiredResultUuid), Instant.now().minus(Duration.ofDays(2)));
+
+        // handed over to the purge thread, the scheduler thread is released at once
+        resultRetentionService.scheduledPurge();
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(dynamicMarginCalculationResultService.findStatus(expiredResultUuid)).isNull());
+    }
+}
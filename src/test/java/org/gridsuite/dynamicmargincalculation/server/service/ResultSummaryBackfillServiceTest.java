@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.gridsuite.dynamicmargincalculation.server.dto.result.ResultSummaryInfos;
+import org.gridsuite.dynamicmargincalculation.server.entities.result.ResultSummaryEntity;
+import org.gridsuite.dynamicmargincalculation.server.repositories.MarginCalculationResultRepository;
+import org.gridsuite.dynamicmargincalculation.server.repositories.ResultSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest
+class ResultSummaryBackfillServiceTest {
+
+    @Autowired
+    ResultSummaryBackfillService resultSummaryBackfillService;
+
+    @Autowired
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @Autowired
+    MarginCalculationResultRepository resultRepository;
+
+    @Autowired
+    ResultSummaryRepository resultSummaryRepository;
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+    }
+
+    @Test
+    void testBackfill() {
+        // result saved before the summaries
+        UUID resultUuid = UUID.randomUUID();
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(3, 10);
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.SUCCEED);
+        resultRepository.insertResult(resultUuid, result);
+
+        // result saved with its summary
+        UUID summarizedResultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(summarizedResultUuid), DynamicMarginCalculationStatus.RUNNING);
+        dynamicMarginCalculationResultService.insertResult(summarizedResultUuid, result, DynamicMarginCalculationStatus.SUCCEED);
+
+        // served computed on the fly until backfilled, reading never writes
+        ResultSummaryInfos expectedSummary = ResultSummaryEntity.fromDomain(resultUuid, result).toDto();
+        assertThat(dynamicMarginCalculationResultService.findResultSummary(resultUuid)).usingRecursiveComparison().isEqualTo(expectedSummary);
+        assertThat(resultSummaryRepository.existsById(resultUuid)).isFalse();
+
+        assertThat(resultSummaryBackfillService.backfill()).isEqualTo(1);
+        assertThat(resultSummaryRepository.existsById(resultUuid)).isTrue();
+        assertThat(dynamicMarginCalculationResultService.findResultSummary(resultUuid)).usingRecursiveComparison().isEqualTo(expectedSummary);
+
+        // nothing left to do
+        assertThat(resultSummaryBackfillService.backfill()).isZero();
+    }
+}
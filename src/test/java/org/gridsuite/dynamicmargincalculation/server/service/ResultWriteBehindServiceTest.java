@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.dynamicmargincalculation.server.service;
+
+import com.powsybl.dynawo.margincalculation.results.MarginCalculationResult;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.dynamicmargincalculation.server.dto.DynamicMarginCalculationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+/**
+ * @author Thang PHAM <quyet-thang.pham at rte-france.com>
+ */
+@SpringBootTest(properties = {
+    "dynamic-margin-calculation.result.write-behind.enabled=true",
+    "dynamic-margin-calculation.result.write-behind.spool-dir=${java.io.tmpdir}/dmc-result-spool-test",
+    "dynamic-margin-calculation.result.write-behind.max-attempts=3",
+    "dynamic-margin-calculation.result.write-behind.retry-backoff=10ms"
+})
+class ResultWriteBehindServiceTest {
+
+    private static final String RECEIVER = "receiver";
+    private static final String USER_ID = "userId";
+
+    @Autowired
+    ResultWriteBehindService resultWriteBehindService;
+
+    @MockitoSpyBean
+    DynamicMarginCalculationResultService dynamicMarginCalculationResultService;
+
+    @MockitoBean
+    NotificationService notificationService;
+
+    @MockitoSpyBean
+    ResultStatusEventService statusEventService;
+
+    @Value("${dynamic-margin-calculation.result.write-behind.spool-dir}")
+    Path spoolDir;
+
+    @AfterEach
+    void cleanDB() {
+        dynamicMarginCalculationResultService.deleteAll();
+    }
+
+    private List<Path> spoolFiles() throws IOException {
+        if (!Files.isDirectory(spoolDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.toList();
+        }
+    }
+
+    @Test
+    void testSubmit() throws IOException {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(10, 100);
+        resultWriteBehindService.submit(new ResultWriteBehindService.PendingResult(resultUuid, RECEIVER, USER_ID, result));
+
+        // result message only sent once the status is committed
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(notificationService).sendResultMessage(resultUuid, RECEIVER, USER_ID, null));
+        InOrder inOrder = inOrder(dynamicMarginCalculationResultService, notificationService);
+        inOrder.verify(dynamicMarginCalculationResultService).insertResult(eq(resultUuid), any(), eq(DynamicMarginCalculationStatus.SUCCEED));
+        inOrder.verify(notificationService).sendResultMessage(resultUuid, RECEIVER, USER_ID, null);
+
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        assertThat(dynamicMarginCalculationResultService.findResult(resultUuid).getLoadIncreaseResults())
+                .usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(spoolFiles()).isEmpty());
+    }
+
+    @Test
+    void testReplaySpooledResult() throws IOException {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+
+        // spooled by a previous process stopped before persisting it
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(2, 10);
+        resultWriteBehindService.spool(new ResultWriteBehindService.PendingResult(resultUuid, RECEIVER, USER_ID, result));
+        assertThat(spoolFiles()).hasSize(1);
+
+        resultWriteBehindService.replay();
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(notificationService).sendResultMessage(resultUuid, RECEIVER, USER_ID, null));
+        assertThat(dynamicMarginCalculationResultService.findResult(resultUuid).getLoadIncreaseResults())
+                .usingRecursiveComparison().isEqualTo(result.getLoadIncreaseResults());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(spoolFiles()).isEmpty());
+    }
+
+    @Test
+    void testRetryTransientFailure() throws IOException {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        doThrow(new QueryTimeoutException("Database unavailable")).doCallRealMethod()
+                .when(dynamicMarginCalculationResultService).insertResult(eq(resultUuid), any(), any());
+
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(2, 10);
+        resultWriteBehindService.submit(new ResultWriteBehindService.PendingResult(resultUuid, RECEIVER, USER_ID, result));
+
+        // persisted at the second attempt, the spool file kept until then
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(notificationService).sendResultMessage(resultUuid, RECEIVER, USER_ID, null));
+        verify(dynamicMarginCalculationResultService, times(2)).insertResult(eq(resultUuid), any(), any());
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.SUCCEED);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(spoolFiles()).isEmpty());
+    }
+
+    @Test
+    void testFailAfterRetries() throws IOException {
+        UUID resultUuid = UUID.randomUUID();
+        dynamicMarginCalculationResultService.insertStatus(List.of(resultUuid), DynamicMarginCalculationStatus.RUNNING);
+        doThrow(new QueryTimeoutException("Database unavailable"))
+                .when(dynamicMarginCalculationResultService).insertResult(eq(resultUuid), any(), any());
+
+        MarginCalculationResult result = DynamicMarginCalculationResultServiceTest.createResult(2, 10);
+        resultWriteBehindService.submit(new ResultWriteBehindService.PendingResult(resultUuid, RECEIVER, USER_ID, result));
+
+        // run set failed and reported once the attempts are exhausted
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+                verify(notificationService).publishFail(eq(resultUuid), eq(RECEIVER), anyString(), eq(USER_ID), anyString(), isNull()));
+        verify(dynamicMarginCalculationResultService, times(3)).insertResult(eq(resultUuid), any(), any());
+        verify(notificationService, never()).sendResultMessage(any(), any(), any(), any());
+        assertThat(dynamicMarginCalculationResultService.findStatus(resultUuid)).isSameAs(DynamicMarginCalculationStatus.FAILED);
+        verify(statusEventService).signalStatusChanged(resultUuid);
+        assertThat(spoolFiles()).isEmpty();
+    }
+}